@@ -68,4 +68,85 @@ VALUES
 	(9, 3, '2025-11-13', '11:00-12:00', 'CANCELLED'),
 	(9, 1, '2025-11-13', '12:00-13:00', 'PENDING');
 
-SELECT * FROM reservations;
\ No newline at end of file
+SELECT * FROM reservations;
+-- 폐기된 Access Token 목록 (로그아웃)
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+	id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    jti VARCHAR(64) NOT NULL COMMENT '토큰 식별자(jti)',
+    expiry BIGINT NOT NULL COMMENT '폐기 정보 만료 시각(ms)',
+
+    UNIQUE KEY `uk_revoked_tokens_jti` (jti),
+    KEY `idx_revoked_tokens_expiry` (expiry)
+)	ENGINE = InnoDB
+	DEFAULT CHARSET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci
+    COMMENT = '폐기된 JWT Access Token 목록';
+
+-- 이메일 인증 여부
+ALTER TABLE users
+	ADD COLUMN email_verified BOOLEAN NOT NULL DEFAULT FALSE COMMENT '이메일 인증 여부';
+
+-- 메일 발송 대기열 (Outbox)
+CREATE TABLE IF NOT EXISTS mail_outbox (
+	id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    recipient VARCHAR(255) NOT NULL COMMENT '수신자',
+    subject VARCHAR(255) NOT NULL COMMENT '제목',
+    body LONGTEXT NOT NULL COMMENT 'HTML 본문',
+    status VARCHAR(20) NOT NULL COMMENT '발송 상태',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '발송 시도 횟수',
+    next_attempt_at BIGINT NOT NULL COMMENT '다음 발송 가능 시각(ms)',
+    claimed_at BIGINT NULL COMMENT '워커 선점 시각(ms)',
+    last_error VARCHAR(500) NULL COMMENT '마지막 오류 메시지',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    KEY `idx_mail_outbox_status_next` (status, next_attempt_at),
+    CONSTRAINT `chk_mail_outbox_status` CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'DEAD'))
+)	ENGINE = InnoDB
+	DEFAULT CHARSET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci
+    COMMENT = '메일 발송 대기열';
+
+-- 게시글 댓글 수 (비정규화) + 댓글 수 기준 정렬/필터용 인덱스
+ALTER TABLE posts
+	ADD COLUMN comment_count INT NOT NULL DEFAULT 0 COMMENT '댓글 수',
+    ADD KEY `idx_posts_comment_count` (comment_count, id),
+    ADD KEY `idx_posts_author_comment_count` (author, comment_count, id);
+
+-- 기존 데이터 댓글 수 채우기
+UPDATE posts p
+	LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM comments GROUP BY post_id) c ON c.post_id = p.id
+SET p.comment_count = COALESCE(c.cnt, 0);
+
+-- 게시판 목록 정렬 기준(id, title, createdAt, updatedAt)별 커버링 인덱스
+-- : 목록 컬럼(id, title, created_at + 정렬 컬럼)을 모두 포함 >> content(LONGTEXT) 가 있는 테이블 행에 접근하지 않음 (id 정렬은 PK)
+-- : 두 번째 컬럼은 반드시 id - 목록/커서 정렬이 (정렬 컬럼, id) 이므로 인덱스 순서 그대로 읽고 LIMIT 에서 멈춤
+--      (InnoDB 가 끝에 붙이는 PK 만으로는 (title, created_at, id) 순서가 되어 같은 title 안에서 id 순이 아님 >> filesort)
+ALTER TABLE boards
+	ADD KEY `idx_boards_title` (title, id, created_at),
+    ADD KEY `idx_boards_created_at` (created_at, id, title),
+    ADD KEY `idx_boards_updated_at` (updated_at, id, title, created_at);
+
+-- 작성자별 게시글 최신순 커서 목록 (GET /api/v1/posts/author/{author})
+-- : WHERE author = ? AND id < ? ORDER BY id DESC LIMIT n >> (author, id) 범위를 역순으로 읽고 LIMIT 에서 멈춤
+--      (idx_posts_author_comment_count 는 같은 author 안에서 comment_count 순이라 id 정렬에 filesort 필요)
+ALTER TABLE posts
+	ADD KEY `idx_posts_author_id` (author, id);
+
+-- 주문 상태 알림 대기 (주문 변경 트랜잭션에서 INSERT, 사용자별로 묶어 mail_outbox 등록 시 삭제)
+CREATE TABLE IF NOT EXISTS order_notifications (
+	id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL COMMENT '수신 사용자',
+    order_id BIGINT NOT NULL COMMENT '주문',
+    from_status VARCHAR(20) NOT NULL COMMENT '변경 전 상태',
+    to_status VARCHAR(20) NOT NULL COMMENT '변경 후 상태',
+    not_before BIGINT NOT NULL COMMENT '묶음 발송 가능 시각(ms)',
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    KEY `idx_order_notifications_not_before` (not_before),
+    KEY `idx_order_notifications_user` (user_id, id)
+)	ENGINE = InnoDB
+	DEFAULT CHARSET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci
+    COMMENT = '주문 상태 알림 대기';
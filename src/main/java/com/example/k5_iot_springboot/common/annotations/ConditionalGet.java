@@ -0,0 +1,41 @@
+package com.example.k5_iot_springboot.common.annotations;
+
+import com.example.k5_iot_springboot.entity.base.BaseTimeEntity;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * === ConditionalGet ===
+ * : 조회(GET/HEAD) 응답의 캐시 정책 + 조건부 요청(If-None-Match / If-Modified-Since) 처리 방식 지정
+ *
+ * - 컨트롤러 클래스에 붙이면 해당 컨트롤러의 모든 GET 핸들러에 적용, 메서드에 붙이면 클래스 설정보다 우선
+ * - entity 지정시 (BaseTimeEntity 하위 엔티티)
+ *      : 서비스 호출 전에 updated_at 1건만 조회하여 ETag/Last-Modified 생성
+ *      >> 클라이언트 값과 같으면 컨트롤러를 실행하지 않고 바로 304 응답
+ *      >> 응답 본문이 해당 엔티티 1건의 컬럼만으로 구성되는 경우에만 사용 (연관 엔티티 값이 섞이면 변경 감지 불가)
+ * - entity 미지정시: 직렬화된 응답 본문의 해시로 ETag 생성 (ShallowEtagHeaderFilter)
+ *      >> 304 여부와 무관하게 서비스 호출/직렬화는 수행 - 전송량만 절약
+ *
+ * @see com.example.k5_iot_springboot.handler.ConditionalGetInterceptor
+ * */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /** 버전 조회 대상 엔티티 - 기본값(BaseTimeEntity)이면 본문 해시 ETag 사용 */
+    Class<? extends BaseTimeEntity> entity() default BaseTimeEntity.class;
+
+    /** 엔티티 id 를 담은 경로 변수 이름 */
+    String idVariable() default "id";
+
+    /** 캐시 보관 시간(초) - 0 이면 no-cache (매 요청 재검증) */
+    long maxAge() default 0;
+
+    /** 사용자별 응답(인증 필요 경로) 여부 - true 면 private (공유 캐시/프록시 저장 X) */
+    boolean privateCache() default false;
+}
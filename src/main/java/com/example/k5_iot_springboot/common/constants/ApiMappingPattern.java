@@ -35,6 +35,8 @@ public class ApiMappingPattern {
 
         public static final String SEARCH_BY_TITLE = "/search";
         public static final String TOP_BY_COMMENTS = "/top-comments";
+        public static final String SEARCH_FULL_TEXT = "/search/full-text";
+        public static final String SEARCH_REINDEX = "/search/reindex";
 
     }
 
@@ -0,0 +1,49 @@
+package com.example.k5_iot_springboot.common.enums;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 게시판 목록 정렬 기준 - 각 기준마다 목록 컬럼(id, title, created_at)을 모두 포함하는 커버링 인덱스가 존재
+public enum BoardSortKey {
+    ID("id"),                   // PK
+    TITLE("title"),             // idx_boards_title (title, id, created_at)
+    CREATED_AT("createdAt"),    // idx_boards_created_at (created_at, id, title)
+    UPDATED_AT("updatedAt");    // idx_boards_updated_at (updated_at, id, title, created_at)
+
+    private final String property;
+
+    BoardSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static BoardSortKey fromProperty(String property) {
+        for (BoardSortKey key : values()) {
+            if (key.property.equals(property)) return key;
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+    }
+
+    // === 커서(KeysetCursor) 정렬 값 변환 === //
+
+    /** 정렬 값 -> 커서 문자열 (날짜는 ISO-8601, 마이크로초 포함) */
+    public String formatValue(Object value) {
+        return String.valueOf(value);
+    }
+
+    /** 커서 문자열 -> 정렬 값 (JPQL 파라미터 타입) */
+    public Object parseValue(String value) {
+        try {
+            return switch (this) {
+                case ID -> Long.valueOf(value);
+                case TITLE -> value;
+                case CREATED_AT, UPDATED_AT -> LocalDateTime.parse(value);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
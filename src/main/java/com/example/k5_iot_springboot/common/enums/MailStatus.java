@@ -0,0 +1,8 @@
+package com.example.k5_iot_springboot.common.enums;
+
+public enum MailStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 워커가 가져가서 발송 중
+    SENT,       // 발송 완료
+    DEAD        // 최대 재시도 초과 - 더 이상 발송하지 않음 (dead-letter)
+}
@@ -0,0 +1,7 @@
+package com.example.k5_iot_springboot.common.enums;
+
+public enum PostSearchScope {
+    ALL,        // 제목 + 댓글 내용
+    TITLE,      // 제목만
+    COMMENT     // 댓글 내용만
+}
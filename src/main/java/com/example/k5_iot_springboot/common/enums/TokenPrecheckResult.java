@@ -0,0 +1,15 @@
+package com.example.k5_iot_springboot.common.enums;
+
+/**
+ * JWT 구조 사전 검사 결과 (JwtProvider.precheck)
+ * - VALID 외의 값은 서명 검증 전에 거부되는 사유 (메트릭 태그로 사용)
+ * */
+public enum TokenPrecheckResult {
+    VALID,
+    TOO_SHORT,          // 최소 길이 미만
+    TOO_LONG,           // jwt.max-token-length 초과
+    ILLEGAL_CHARACTER,  // base64url(A-Z a-z 0-9 - _) 와 '.' 이외의 문자
+    MALFORMED_SEGMENTS, // header.payload.signature 3개 구간이 아님 (또는 빈 구간)
+    HEADER_NOT_ALLOWED, // 서버가 발급하지 않는 header (alg/kid/typ 불일치)
+    SIGNATURE_LENGTH    // 알고리즘에 맞지 않는 서명 길이
+}
@@ -0,0 +1,19 @@
+package com.example.k5_iot_springboot.common.errors;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 유니크 필드 중복 예외 (409 Conflict)
+ * - errors: 중복된 필드 목록 (클라이언트가 어떤 입력값을 고쳐야 하는지 알 수 있도록 전달)
+ * */
+@Getter
+public class FieldConflictException extends RuntimeException {
+    private final List<FieldErrorItem> errors;
+
+    public FieldConflictException(String message, List<FieldErrorItem> errors) {
+        super(message);
+        this.errors = errors;
+    }
+}
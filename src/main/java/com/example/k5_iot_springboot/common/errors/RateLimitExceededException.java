@@ -0,0 +1,17 @@
+package com.example.k5_iot_springboot.common.errors;
+
+import lombok.Getter;
+
+/**
+ * 요청 횟수 제한 초과 예외 (429 Too Many Requests)
+ * - retryAfterSeconds: 재시도 가능까지 남은 시간 (Retry-After 헤더로 전달)
+ * */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
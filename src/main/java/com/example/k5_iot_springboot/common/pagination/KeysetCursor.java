@@ -0,0 +1,76 @@
+package com.example.k5_iot_springboot.common.pagination;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * === KeysetCursor ===
+ * : keyset(seek) 페이지네이션 커서 - 마지막으로 받은 행의 (정렬 값, id) + 정렬 기준/방향
+ *
+ * - 클라이언트에는 불투명(opaque) 문자열로 전달: Base64URL("정렬속성|A 또는 D|id|정렬값")
+ *      >> 클라이언트는 내용을 해석하지 않고 nextCursor 를 그대로 다시 보냄
+ *      >> 커서에 정렬 정보가 포함되어 있어 다음 요청에서 정렬 파라미터를 반복할 필요 없음
+ * - 정렬 값은 문자열로 보관 - 타입 변환은 정렬 기준(예: BoardSortKey)이 담당
+ * - 형식이 잘못된 커서는 IllegalArgumentException (400)
+ * */
+public record KeysetCursor(String sort, Sort.Direction direction, long id, String value) {
+
+    private static final String SEPARATOR = "|";
+    private static final String ID = "id";
+
+    /** id DESC 목록(최신순)의 커서 - 정렬 값 = id */
+    public static KeysetCursor forId(long id) {
+        return forId(id, Sort.Direction.DESC);
+    }
+
+    /** id 순 목록의 커서 - 정렬 값 = id */
+    public static KeysetCursor forId(long id, Sort.Direction direction) {
+        return new KeysetCursor(ID, direction, id, String.valueOf(id));
+    }
+
+    /** id DESC 커서 해석 - 커서가 없으면 null (처음부터) */
+    public static Long idOf(String cursor) {
+        return idOf(cursor, Sort.Direction.DESC);
+    }
+
+    /** id 순 커서 해석 - 커서가 없으면 null (처음부터), 다른 정렬/방향의 커서는 400 */
+    public static Long idOf(String cursor, Sort.Direction direction) {
+        KeysetCursor decoded = decode(cursor, ID, direction);
+        return (decoded == null) ? null : decoded.id();
+    }
+
+    /** 정렬 기준이 고정된 목록의 커서 해석 - 커서가 없으면 null (처음부터), 다른 정렬/방향의 커서는 400 */
+    public static KeysetCursor decode(String cursor, String sort, Sort.Direction direction) {
+        if (cursor == null || cursor.isBlank()) return null;
+        KeysetCursor decoded = decode(cursor);
+        if (!sort.equals(decoded.sort()) || decoded.direction() != direction) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return decoded;
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + (direction.isAscending() ? "A" : "D") + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 정렬 값은 마지막 구간 - 값 안에 구분자가 있어도 그대로 보존
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || parts[0].isEmpty()) throw new IllegalArgumentException();
+
+            Sort.Direction direction = switch (parts[1]) {
+                case "A" -> Sort.Direction.ASC;
+                case "D" -> Sort.Direction.DESC;
+                default -> throw new IllegalArgumentException();
+            };
+            return new KeysetCursor(parts[0], direction, Long.parseLong(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) { // Base64/숫자 형식 오류 포함 (NumberFormatException 은 하위 타입)
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
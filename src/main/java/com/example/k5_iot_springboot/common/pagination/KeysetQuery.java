@@ -0,0 +1,48 @@
+package com.example.k5_iot_springboot.common.pagination;
+
+import org.springframework.data.domain.Sort;
+
+/*
+    ==== KeysetQuery ====
+    : keyset(seek) 페이지네이션용 JPQL 조각 생성
+
+    - 정렬: (정렬 컬럼, id) 같은 방향 - id 로 동순위를 끊어야 커서가 행 하나를 정확히 가리킴
+    - seek 조건 (정렬 컬럼 = c, 기준 행 = (:afterKey, :afterId))
+        ASC : c > :afterKey OR (c = :afterKey AND id > :afterId)
+        DESC: c < :afterKey OR (c = :afterKey AND id < :afterId)
+        - 정렬 컬럼이 id 자체면 id 비교만
+        >> (정렬 컬럼, id) 인덱스 범위의 기준 위치부터 읽음 - 페이지 깊이와 무관하게 일정한 비용
+
+    cf) 속성명은 화이트리스트(enum 등)에서만 전달할 것 - JPQL 에 그대로 삽입됨
+ */
+public final class KeysetQuery {
+    private KeysetQuery() {}
+
+    public static final String AFTER_KEY = "afterKey";
+    public static final String AFTER_ID = "afterId";
+
+    private static final String ID = "id";
+
+    /** 기준 행 다음부터를 가리키는 WHERE 조건 (괄호 포함) */
+    public static String seekPredicate(String alias, String property, Sort.Direction direction) {
+        String op = direction.isAscending() ? " > " : " < ";
+        String id = alias + "." + ID;
+        if (ID.equals(property)) return "(" + id + op + ":" + AFTER_ID + ")";
+
+        String column = alias + "." + property;
+        return "(" + column + op + ":" + AFTER_KEY
+                + " OR (" + column + " = :" + AFTER_KEY + " AND " + id + op + ":" + AFTER_ID + "))";
+    }
+
+    /** ORDER BY 절 (키워드 포함) - 정렬 컬럼 + id 동순위 정렬 */
+    public static String orderBy(String alias, String property, Sort.Direction direction) {
+        String dir = direction.isAscending() ? " ASC" : " DESC";
+        String clause = " ORDER BY " + alias + "." + property + dir;
+        return ID.equals(property) ? clause : clause + ", " + alias + "." + ID + dir;
+    }
+
+    /** seek 조건에 바인딩할 파라미터가 정렬 값을 포함하는지 */
+    public static boolean bindsKey(String property) {
+        return !ID.equals(property);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.k5_iot_springboot.common.pagination;
+
+/*
+    ==== PageLimits ====
+    : 목록 API 요청 크기 상한 - 모든 목록 조회는 한 번에 최대 MAX_SIZE 건
+    - size 미지정: DEFAULT_SIZE, 범위 밖: 1 ~ MAX_SIZE 로 보정 (오류 대신 보정 - 목록 탐색을 끊지 않음)
+    - 목록 크기 정책은 이 클래스 하나 - 컨트롤러에서 size 에 @Min/@Max 를 따로 두지 않음 (Integer size 그대로 전달)
+ */
+public final class PageLimits {
+    private PageLimits() {}
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static int clamp(Integer size) {
+        if (size == null) return DEFAULT_SIZE;
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.k5_iot_springboot.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Properties;
 
@@ -12,14 +15,27 @@ import java.util.Properties;
 // 역할
 // : JavaMailSender Bean 구성
 // - SMTP/STARTTLS/인코딩 설정
+// - 메일 발송 전용 스레드 풀 (MailOutboxDispatcher 에서 사용)
 @Configuration
 public class MailConfig {
+    public static final String MAIL_SEND_EXECUTOR = "mailSendExecutor";
+
     @Value("${spring.mail.host}") private String host; // 이메일 서버의 호스트 주소
     @Value("${spring.mail.port}") private int port; // 이메일 서버가 사용하는 포트 번호
 
     @Value("${spring.mail.username}") private String username;
     @Value("${spring.mail.password}") private String password;
 
+    // SMTP 프로토콜 로그 출력 여부 (운영에서는 false - 메일 본문/인증 과정이 로그에 남음)
+    @Value("${spring.mail.properties.mail.debug:false}") private boolean debug;
+
+    // 응답 없는 SMTP 서버에 워커가 무한정 묶이지 않도록 시간 제한(ms)
+    @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}") private int connectionTimeout;
+    @Value("${spring.mail.properties.mail.smtp.timeout:5000}") private int timeout;
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:5000}") private int writeTimeout;
+
+    @Value("${mail.outbox.workers:2}") private int workers;
+
     @Bean
     public JavaMailSender javaMailSender() {
         // JavaMailSender 의 기본 구현체 생성
@@ -36,8 +52,33 @@ public class MailConfig {
         props.put("mail.transport.protocol", "smtp");
         props.put("mail.smtp.auth", "true");
         props.put("mail.smtp.starttls.enable", "true");
-        props.put("mail.debug", "true");
+        props.put("mail.debug", String.valueOf(debug));
+        props.put("mail.smtp.connectiontimeout", String.valueOf(connectionTimeout));
+        props.put("mail.smtp.timeout", String.valueOf(timeout));
+        props.put("mail.smtp.writetimeout", String.valueOf(writeTimeout));
 
         return mailSender;
     }
+
+    /**
+     * 메일 발송 전용 스레드 풀
+     * - 워커 수 = 동시에 열리는 SMTP 연결 수 (메일 서버의 동시 연결 제한 고려)
+     * - 대기열은 워커 수만큼만 - Dispatcher 가 빈 워커 수만큼만 선점하므로 넘치지 않음
+     * */
+    @Bean(name = MAIL_SEND_EXECUTOR)
+    public ThreadPoolTaskExecutor mailSendExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        Gauge.builder("mail.outbox.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("발송 중인 메일 배치 수")
+                .register(meterRegistry);
+        return executor;
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.k5_iot_springboot.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+    === PasswordHashingConfig ===
+    : 비밀번호 해시(BCrypt) 전용 스레드 풀
+    - BCrypt 는 의도적으로 느린 CPU 연산 >> 요청 스레드(Tomcat worker)에서 실행하면
+        로그인 폭주 시 worker 가 모두 해시 연산에 묶여 다른 API 까지 응답 불가
+    - 로그인/회원가입/비밀번호 재설정은 이 풀에서 실행 (컨트롤러가 CompletableFuture 반환)
+    - 대기열이 가득 차면 RejectedExecutionException >> 503 응답 (무한 대기 X)
+
+    # 메트릭 (Actuator /actuator/metrics) #
+    - password.hash.queue.size  : 대기 중인 해시 작업 수
+    - password.hash.active      : 실행 중인 해시 작업 수
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PasswordHashingConfig {
+    private final PasswordEncoder passwordEncoder;
+
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+
+    // 기본값: CPU 코어 수 (CPU 바운드 작업이므로 코어 수 이상은 의미 없음)
+    @Value("${security.password.hash-pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int poolSize;
+
+    @Value("${security.password.hash-queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pw-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        Gauge.builder("password.hash.queue.size", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("비밀번호 해시 대기열 크기")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * 기동 후 현재 강도 기준 해시 1회 소요 시간을 기록 (풀 크기 산정용, JIT 전이므로 대략값)
+     * - 초당 처리량 ≒ poolSize * (1000 / ms)
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logHashCost() {
+        long start = System.nanoTime();
+        passwordEncoder.encode("warm-up-password");
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        log.info("[password-hash] {} ms/hash, pool={}, queue={} (약 {} hashes/sec)",
+                elapsedMs, poolSize, queueCapacity, poolSize * 1000 / elapsedMs);
+    }
+}
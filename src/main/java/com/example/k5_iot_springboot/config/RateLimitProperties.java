@@ -0,0 +1,45 @@
+package com.example.k5_iot_springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    === RateLimitProperties ===
+    : application.properties 의 rate-limit.* 설정 바인딩 (RateLimitFilter 에서 사용)
+
+    rate-limit.routes[0].name=auth
+    rate-limit.routes[0].patterns=/api/v1/auth/**
+    rate-limit.routes[0].methods=POST               (비우면 모든 메서드)
+    rate-limit.routes[0].capacity=10                (순간 최대 허용 요청 수 - burst)
+    rate-limit.routes[0].refill-per-second=1        (초당 충전되는 토큰 수 - 평균 허용 속도)
+
+    - 라우트는 선언 순서대로 검사하여 처음 일치한 라우트 하나만 적용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 유휴 버킷 정리 주기
+    private long evictIntervalMs = 60_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+        private int capacity = 20;
+        private double refillPerSecond = 5;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.k5_iot_springboot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+    @Scheduled 기반 백그라운드 작업 활성화
+    - 토큰 폐기 목록 정리 등 주기적으로 실행되어야 하는 작업에 사용
+    - 스케줄러 스레드 수는 spring.task.scheduling.pool.size (application.properties)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,41 @@
+package com.example.k5_iot_springboot.config;
+
+import com.example.k5_iot_springboot.handler.ConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+    === 조건부 요청(ETag / 304 Not Modified) 설정 ===
+    1) ConditionalGetInterceptor: @ConditionalGet 핸들러의 Cache-Control + 엔티티 버전 기반 ETag (서비스 호출 전 304)
+    2) ShallowEtagHeaderFilter: 응답 본문 해시(MD5)로 강한 ETag 생성, If-None-Match 일치시 본문 없이 304
+        - ETag 가 이미 지정된 응답(버전 기반, 게시글 상세 캐시)은 건너뜀
+        - 본문을 메모리에 모은 뒤 해시하므로 조회 경로에만 등록 (스트리밍 응답인 관리자 내보내기 등은 제외)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Value("${http.etag.url-patterns}")
+    private String[] etagUrlPatterns;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(etagUrlPatterns);
+        registration.setName("shallowEtagHeaderFilter");
+        return registration;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.k5_iot_springboot.config;
 
 import com.example.k5_iot_springboot.filter.JwtAuthenticationFilter;
+import com.example.k5_iot_springboot.filter.RateLimitFilter;
 import com.example.k5_iot_springboot.handler.JsonAccessDeniedHandler;
 import com.example.k5_iot_springboot.handler.JsonAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,8 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -23,7 +26,9 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /*
     ==== WebSecurityConfig ===
@@ -41,6 +46,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebSecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter; // 사용자 정의 JWT 검증 필터(아래에서 필터 체인에 추가)
+    private final RateLimitFilter rateLimitFilter; // 공개 엔드포인트 요청 횟수 제한 필터
 
     private final JsonAuthenticationEntryPoint authenticationEntryPoint;
     private final JsonAccessDeniedHandler accessDeniedHandler;
@@ -58,6 +64,12 @@ public class WebSecurityConfig {
     @Value("${cors.exposed-headers:Authorization,Set-Cookie}")
     private String exposedHeaders; // 필요한 헤더만 노출
 
+    // BCrypt 강도 (4 ~ 31, 1 증가시 해시 비용 2배)
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    private static final String PASSWORD_ENCODER_ID = "bcrypt";
+
     @Value("${security.h2-console:true}") // true: 개발 편의성을 위해... - 개발용 H2 콘솔 접근 허용 여부 (아래에서 권한 부여)
     private boolean h2ConsoleEnabled;
 
@@ -67,10 +79,23 @@ public class WebSecurityConfig {
      * ===========
      * */
 
-    /** 1) 비밀번호 인코더: 실무 기본 BCrypt (강도 기본값) */
+    /**
+     * 1) 비밀번호 인코더: DelegatingPasswordEncoder ({id}hash 형식, 기본 id = bcrypt)
+     * - BCrypt 강도(cost)는 security.password.bcrypt-strength 로 조정 (2^strength 회 연산)
+     * - 접두어 없는 기존 해시({id} 없음)는 BCrypt 로 비교 (하위 호환)
+     * - 저장된 해시의 id/강도가 현재 설정과 다르면 upgradeEncoding() == true
+     *      >> 로그인 성공시 DaoAuthenticationProvider 가 UserDetailsPasswordService(CustomUserDetailsService) 로 재해시 저장
+     * */
     @Bean // 메서드 반환 객체를 스프링 빈으로 등록
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(PASSWORD_ENCODER_ID, bcrypt);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(PASSWORD_ENCODER_ID, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
         // >> 추후 회원가입/로그인 시 passwordEncoder.matches(raw, encoded); 비밀번호 비교에 사용 +) DB 에는 encoded 로 저장됨
     }
 
@@ -198,6 +223,8 @@ public class WebSecurityConfig {
 
         // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 앞에 배치
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // 요청 횟수 제한 필터를 JWT 필터 앞에 배치 (토큰 파싱/DB 조회 전에 차단)
+        http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
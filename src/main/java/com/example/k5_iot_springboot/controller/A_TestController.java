@@ -1,12 +1,11 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.A_Test;
 import com.example.k5_iot_springboot.service.A_TestService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 // @Controller
 // : 웹 요청을 처리하는 클래스임을 명시 (반환되는 데이턱 타입이 유연 - JSP, Thymeleaf 등)
 // @Controller 는 @Component 를 포함하고 있음
@@ -40,9 +39,13 @@ public class A_TestController {
     // HTTP 요청의 바디에 담긴 JSON 데이터를 HttpMessageConverter 가 자바객체로 변환해줌
 
     // 요청 구조 : HTTP 메서드 + URI 경로 (URI 자원에 어떠한 HTTP 동작을 실행할 것인지 명시하여 요청)
+    // 전체 조회 - 최신순 커서 페이지 (cursor: 이전 응답의 nextCursor, size: 기본 20, 최대 100)
     @GetMapping("/all")
-    public List<A_Test> getAllTests() {
-        List<A_Test> result = testService.getAllTests();
+    public CursorPage<A_Test> getAllTests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<A_Test> result = testService.getAllTests(cursor, size);
         return result;
     }
 
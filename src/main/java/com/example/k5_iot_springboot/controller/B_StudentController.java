@@ -3,6 +3,7 @@ package com.example.k5_iot_springboot.controller;
 import com.example.k5_iot_springboot.dto.B_Student.StudentCreateRequestDto;
 import com.example.k5_iot_springboot.dto.B_Student.StudentResponseDto;
 import com.example.k5_iot_springboot.dto.B_Student.StudentUpdateRequestDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.service.B_StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +11,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 // cf) RESTful API: REST API 를 잘 따르는 아키텍처 스타일
 
@@ -44,10 +44,14 @@ public class B_StudentController {
         return ResponseEntity.created(location).body(created);
     }
 
-    // 2) 전체 조회
+    // 2) 전체 조회 (최신순 커서 페이지)
+    // : cursor - 이전 응답의 nextCursor (처음 요청이면 생략), size - 기본 20, 최대 100
     @GetMapping
-    public ResponseEntity<List<StudentResponseDto>> getAllStudents() {
-        List<StudentResponseDto> result = studentService.getAllStudents();
+    public ResponseEntity<CursorPage<StudentResponseDto>> getAllStudents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<StudentResponseDto> result = studentService.getAllStudents(cursor, size);
         return ResponseEntity.ok(result);
     }
 
@@ -75,11 +79,15 @@ public class B_StudentController {
         return ResponseEntity.noContent().build();
     }
 
-    // 6) 학생 필터링 조회 (이름 검색)
-    // GET + /filter?name=값
+    // 6) 학생 필터링 조회 (이름 검색 - 최신순 커서 페이지)
+    // GET + /filter?name=값&cursor=&size=
     @GetMapping("/filter")
-    public ResponseEntity<List<StudentResponseDto>> filterStudentsByName(@RequestParam String name) {
-        List<StudentResponseDto> result = studentService.filterStudentByName(name);
+    public ResponseEntity<CursorPage<StudentResponseDto>> filterStudentsByName(
+            @RequestParam String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<StudentResponseDto> result = studentService.filterStudentByName(name, cursor, size);
         return ResponseEntity.ok(result);
     }
 
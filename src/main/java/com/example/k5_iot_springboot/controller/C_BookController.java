@@ -4,6 +4,7 @@ import com.example.k5_iot_springboot.common.constants.ApiMappingPattern;
 import com.example.k5_iot_springboot.dto.C_Book.BookCreateRequestDto;
 import com.example.k5_iot_springboot.dto.C_Book.BookResponseDto;
 import com.example.k5_iot_springboot.dto.C_Book.BookUpdateRequestDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.C_Category;
 import com.example.k5_iot_springboot.service.C_BookService;
@@ -12,7 +13,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping(ApiMappingPattern.Books.ROOT)
@@ -34,10 +34,14 @@ public class C_BookController {
         //   return ResponseEntity.created(location).body(result);
     }
 
-    // 2) READ - 전체
+    // 2) READ - 전체 (최신순 커서 페이지)
+    // : cursor - 이전 응답의 nextCursor (처음 요청이면 생략), size - 기본 20, 최대 100
     @GetMapping
-    public ResponseEntity<ResponseDto<List<BookResponseDto>>> getAllBooks() {
-        ResponseDto<List<BookResponseDto>> result = bookService.getAllBooks();
+    public ResponseEntity<ResponseDto<CursorPage<BookResponseDto>>> getAllBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ResponseDto<CursorPage<BookResponseDto>> result = bookService.getAllBooks(cursor, size);
         return ResponseEntity.ok(result);
     }
 
@@ -86,24 +90,29 @@ public class C_BookController {
     //      >> enum 타입같은 제한된 값에 사용됨
 
     // 1) 제목에 특정 단어가 포함된 책 조회
+    // : 결과는 최신순 커서 페이지 (cursor - 이전 응답의 nextCursor, size - 기본 20, 최대 100)
     @GetMapping(BOOK_SEARCH_BY_TITLE) // "/search/title?keyword=자바"
-    public ResponseEntity<ResponseDto<List<BookResponseDto>>> getBooksByTitleContaining(
-            @RequestParam String keyword // 경로값에 ? 이후의 데이터를 키-값 쌍으로 추출되는 값 (?키=값)
+    public ResponseEntity<ResponseDto<CursorPage<BookResponseDto>>> getBooksByTitleContaining(
+            @RequestParam String keyword, // 경로값에 ? 이후의 데이터를 키-값 쌍으로 추출되는 값 (?키=값)
             // >> 항상 문자열로 반환 (숫자형은 int, long 으로 자동변환됨)
 
             // cf) 숫자로 변환할 수 없는 데이터 전달시 400 Bad Request 발생
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        ResponseDto<List<BookResponseDto>> books = bookService.getBooksByTitleContaining(keyword);
+        ResponseDto<CursorPage<BookResponseDto>> books = bookService.getBooksByTitleContaining(keyword, cursor, size);
         return ResponseEntity.status(books.getMessage().equals("Success") ? HttpStatus.OK : HttpStatus.BAD_REQUEST)
                 .body(books);
     }
 
     // 2) 카테고리별 책 조회
     @GetMapping("/category/{category}") // "/category/ESSAY"
-    public ResponseEntity<ResponseDto<List<BookResponseDto>>> getBooksByCategory(
-            @PathVariable C_Category category
+    public ResponseEntity<ResponseDto<CursorPage<BookResponseDto>>> getBooksByCategory(
+            @PathVariable C_Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
             ) {
-        ResponseDto<List<BookResponseDto>> books = bookService.getBooksByCategory(category);
+        ResponseDto<CursorPage<BookResponseDto>> books = bookService.getBooksByCategory(category, cursor, size);
         return ResponseEntity.status(books.getMessage().equals("Success") ? HttpStatus.OK : HttpStatus.BAD_REQUEST)
                 .body(books);
     }
@@ -4,6 +4,7 @@ import com.example.k5_iot_springboot.common.constants.ApiMappingPattern;
 import com.example.k5_iot_springboot.dto.D_Comment.request.CommentCreateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Comment.request.CommentUpdateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.service.D_CommentService;
 import jakarta.validation.Valid;
@@ -54,4 +55,17 @@ public class D_CommentController {
         ResponseDto<Void> response = commentService.deleteComment(postId, commentId);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    // 4) 댓글 목록 (커서 기반 페이지네이션)
+    // [GET] /api/v1/posts/{postId}/comments?cursor=&size=
+    // : cursor - 이전 응답의 nextCursor (처음 요청이면 생략), size - 기본 20, 최대 100
+    @GetMapping
+    public ResponseEntity<ResponseDto<CursorPage<CommentResponseDto>>> getComments(
+            @PathVariable("postId") @Positive(message = "postId는 1 이상의 정수여야 합니다.") Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ResponseDto<CursorPage<CommentResponseDto>> response = commentService.getComments(postId, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
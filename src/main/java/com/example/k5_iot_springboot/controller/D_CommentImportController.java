@@ -0,0 +1,34 @@
+package com.example.k5_iot_springboot.controller;
+
+import com.example.k5_iot_springboot.dto.D_Comment.response.CommentImportResultDto;
+import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.example.k5_iot_springboot.service.D_CommentImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/admin/comments")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class D_CommentImportController {
+    private final D_CommentImportService commentImportService;
+
+    // 댓글 일괄 등록 (레거시 데이터 이관)
+    // [POST] /api/v1/admin/comments/import
+    // 요청 본문: [{"postId": 1, "content": "...", "commenter": "..."}, ...]
+    // : @RequestBody 를 사용하지 않고 요청 스트림을 직접 전달 >> 본문 전체를 메모리에 올리지 않고 원소 단위로 파싱
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseDto<CommentImportResultDto>> importComments(HttpServletRequest request) throws IOException {
+        ResponseDto<CommentImportResultDto> response = commentImportService.importComments(request.getInputStream());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.common.annotations.ConditionalGet;
 import com.example.k5_iot_springboot.common.constants.ApiMappingPattern;
+import com.example.k5_iot_springboot.common.enums.PostSearchScope;
 import com.example.k5_iot_springboot.dto.D_Post.request.PostCreateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Post.request.PostUpdateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostDetailResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostListResponseDto;
+import com.example.k5_iot_springboot.dto.D_Post.response.PostSearchResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostWithCommentCountResponseDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.service.D_PostService;
 import jakarta.validation.Valid;
@@ -23,6 +27,7 @@ import java.util.List;
 @RequestMapping(ApiMappingPattern.Posts.ROOT) // /api/v1/posts
 @RequiredArgsConstructor
 @Validated // 메서드 파라미터 검증 활성화
+@ConditionalGet(privateCache = true) // 조회 응답: 본문 해시 ETag, 인증 경로라 private
 public class D_PostController {
     private final D_PostService postService;
 
@@ -45,11 +50,15 @@ public class D_PostController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
-    // 3) 게시글 전체 조회(댓글 제외)
-    // : 페이징이 필요한 경우 page/size 파라미터 추가 또는 Pageable 적용
+    // 3) 게시글 전체 조회(댓글 제외) - 커서 기반 페이지네이션
+    // : 처음 요청이면 cursor 생략 (가장 최신부터), 다음 페이지는 응답의 nextCursor 전달
+    // : size - 기본 20, 최대 100
     @GetMapping
-    public ResponseEntity<ResponseDto<List<PostListResponseDto>>> getAllPosts() {
-        ResponseDto<List<PostListResponseDto>> response = postService.getAllPosts();
+    public ResponseEntity<ResponseDto<CursorPage<PostListResponseDto>>> getAllPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ResponseDto<CursorPage<PostListResponseDto>> response = postService.getAllPosts(cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -73,21 +82,25 @@ public class D_PostController {
 
     // ==========================================================================//
 
-    // 6) 특성 작성자의 모든 게시글 조회
+    // 6) 특성 작성자의 게시글 조회 (최신순 커서 페이지 - cursor: 이전 응답의 nextCursor, size: 기본 20, 최대 100)
     @GetMapping(ApiMappingPattern.Posts.BY_AUTHOR)
-    public ResponseEntity<ResponseDto<List<PostListResponseDto>>> getPostsByAuthor(
-            @PathVariable @NotBlank(message = "작성자(author)는 비어있을수 없습니다.") String author
+    public ResponseEntity<ResponseDto<CursorPage<PostListResponseDto>>> getPostsByAuthor(
+            @PathVariable @NotBlank(message = "작성자(author)는 비어있을수 없습니다.") String author,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        ResponseDto<List<PostListResponseDto>> response = postService.getPostsByAuthor(author);
+        ResponseDto<CursorPage<PostListResponseDto>> response = postService.getPostsByAuthor(author, cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
-    // 7) 특정 키워드로 제목 검색
-    @GetMapping(ApiMappingPattern.Posts.SEARCH_BY_TITLE) // api/v1/posts/search?keyword=...
-    public ResponseEntity<ResponseDto<List<PostListResponseDto>>> searchPostsByTitle(
-            @RequestParam("keyword") @NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword
+    // 7) 특정 키워드로 제목 검색 (최신순 커서 페이지)
+    @GetMapping(ApiMappingPattern.Posts.SEARCH_BY_TITLE) // api/v1/posts/search?keyword=...&cursor=&size=
+    public ResponseEntity<ResponseDto<CursorPage<PostListResponseDto>>> searchPostsByTitle(
+            @RequestParam("keyword") @NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        ResponseDto<List<PostListResponseDto>> response = postService.searchPostsByTitle(keyword);
+        ResponseDto<CursorPage<PostListResponseDto>> response = postService.searchPostsByTitle(keyword, cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -101,21 +114,45 @@ public class D_PostController {
     // 9) 특정 키워드를 포함하는 "댓글" 이 달린 게시글 조회
     // 요청값: 특정 키워드(검색값) - String
     //  >> @RequestParam
-    // 응답값: 해당 키워드가 포함된 게시글들 - List<PostListResponseDto>
+    // 응답값: 해당 키워드가 포함된 게시글들 - CursorPage<PostListResponseDto> (최신순, cursor/size)
     @GetMapping("/search-comment")
-    public ResponseEntity<ResponseDto<List<PostListResponseDto>>> searchPostsByCommentKeyword(
-            @RequestParam("keyword") @NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword) {
-        ResponseDto<List<PostListResponseDto>> response = postService.searchPostsByCommentKeyword(keyword);
+    public ResponseEntity<ResponseDto<CursorPage<PostListResponseDto>>> searchPostsByCommentKeyword(
+            @RequestParam("keyword") @NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        ResponseDto<CursorPage<PostListResponseDto>> response = postService.searchPostsByCommentKeyword(keyword, cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
-    // 10) 특정 작성자의 게시글 중, 댓글 수가 minCount 이상인 게시글 조회
+    // 10) 특정 작성자의 게시글 중, 댓글 수가 minCount 이상인 게시글 조회 (댓글 수 순 커서 페이지)
     @GetMapping("/author/{author}/min-comments")
-    public ResponseEntity<ResponseDto<List<PostWithCommentCountResponseDto>>> getAuthorPostsWithMinComment(
+    public ResponseEntity<ResponseDto<CursorPage<PostWithCommentCountResponseDto>>> getAuthorPostsWithMinComment(
             @PathVariable @NotBlank(message = "작성자는 비워질 수 없습니다.") String author,
-            @RequestParam(name = "minCount", defaultValue = "1") @PositiveOrZero(message = "minCount 는 0 이상이어야합니다.") int minCount
+            @RequestParam(name = "minCount", defaultValue = "1") @PositiveOrZero(message = "minCount 는 0 이상이어야합니다.") int minCount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ResponseDto<CursorPage<PostWithCommentCountResponseDto>> response = postService.getAuthorPostsWithMinComment(author, minCount, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    // 11) 통합 검색 - 제목/댓글 내용 (검색 색인, 관련도순 페이지)
+    // : scope = ALL(기본) | TITLE | COMMENT
+    @GetMapping(ApiMappingPattern.Posts.SEARCH_FULL_TEXT) // api/v1/posts/search/full-text?keyword=...&page=0&size=20
+    public ResponseEntity<ResponseDto<PostSearchResponseDto>> searchPosts(
+            @RequestParam("keyword") @NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword,
+            @RequestParam(defaultValue = "ALL") PostSearchScope scope,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int page,
+            @RequestParam(required = false) Integer size
     ) {
-        ResponseDto<List<PostWithCommentCountResponseDto>> response = postService.getAuthorPostsWithMinComment(author, minCount);
+        ResponseDto<PostSearchResponseDto> response = postService.searchPosts(keyword, scope, page, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    // 12) 검색 색인 전체 재구성 (ADMIN) - 응답값: 색인된 게시글 수
+    @PostMapping(ApiMappingPattern.Posts.SEARCH_REINDEX)
+    public ResponseEntity<ResponseDto<Integer>> rebuildSearchIndex() {
+        ResponseDto<Integer> response = postService.rebuildSearchIndex();
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 }
@@ -0,0 +1,40 @@
+package com.example.k5_iot_springboot.controller;
+
+import com.example.k5_iot_springboot.service.D_PostExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/api/v1/admin/posts")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class D_PostExportController {
+    private final D_PostExportService postExportService;
+
+    // 게시글 + 댓글 전체 내보내기 (분석용 덤프)
+    // [GET] /api/v1/admin/posts/export
+    // 응답: NDJSON - 한 줄에 게시글 1건 {"id", "title", "content", "author", "comments": [{"id", "content", "commenter"}, ...]}
+    // : 결과셋을 읽는 대로 응답 스트림에 바로 기록 (요청 스레드에서 동기 출력)
+    //      >> 비동기 요청(StreamingResponseBody)이 아니므로 spring.mvc.async.request-timeout 의 적용을 받지 않음
+    //      >> 전역 비동기 타임아웃(다른 비동기 API 에도 적용)을 늘리지 않고 내보내기만 끝까지 실행 (관리자 전용, 동시 실행 드묾)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPosts(HttpServletResponse response) throws IOException {
+        String filename = "posts-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".ndjson";
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        postExportService.exportPostsWithComments(response.getOutputStream());
+    }
+}
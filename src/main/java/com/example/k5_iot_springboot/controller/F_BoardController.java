@@ -1,12 +1,13 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.common.annotations.ConditionalGet;
 import com.example.k5_iot_springboot.common.constants.ApiMappingPattern;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.F_Board.request.BoardRequestDto;
 import com.example.k5_iot_springboot.dto.F_Board.response.BoardResponseDto;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.service.F_BoardService;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,12 +16,12 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(ApiMappingPattern.Boards.ROOT)
 @Validated
+@ConditionalGet(privateCache = true) // 조회 응답: 본문 해시 ETag, 인증 경로라 private
 public class F_BoardController {
    private final F_BoardService boardService;
 
@@ -34,11 +35,15 @@ public class F_BoardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    //2) 게시글 조회 (전체조회)
+    //2) 게시글 조회 (전체조회 - id 오름차순 커서 페이지)
+    // : 전체를 한 번에 반환하지 않음 - cursor 로 이어서 조회, size 기본 20, 최대 100
     @PreAuthorize("hasAnyRole('USER','MANAGER', 'ADMIN')")
     @GetMapping("/all")
-    public ResponseEntity<ResponseDto<List<BoardResponseDto.SummaryResponse>>> getAllBoards() {
-        ResponseDto<List<BoardResponseDto.SummaryResponse>> response = boardService.getAllBoards();
+    public ResponseEntity<ResponseDto<CursorPage<BoardResponseDto.SummaryResponse>>> getAllBoards(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ResponseDto<CursorPage<BoardResponseDto.SummaryResponse>> response = boardService.getAllBoards(cursor, size);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -48,26 +53,31 @@ public class F_BoardController {
     public ResponseEntity<ResponseDto<BoardResponseDto.PageResponse>> getBoardsPage(
             // page: 0부터 시작, 필요 시 1부터 시작하는 정책도 가능
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            // size: 최대 100 제한 (과도한 요청 방지)
-            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            // size: 기본 20, 최대 100 (PageLimits - 범위 밖은 보정)
+            @RequestParam(required = false) Integer size,
             // sort: 여러 개 허용 - EX) sort=createAt,desc&sort=title,asc
-            @RequestParam(required = false) String[] sort
+            @RequestParam(required = false) String[] sort,
+            // exactCount: true 일 때만 COUNT(*) 로 정확한 전체 개수 계산 (기본은 주기적으로 갱신되는 근사값)
+            @RequestParam(defaultValue = "false") boolean exactCount
     ) {
-        ResponseDto<BoardResponseDto.PageResponse> response = boardService.getBoardsPage(page, size, sort);
+        ResponseDto<BoardResponseDto.PageResponse> response = boardService.getBoardsPage(page, size, sort, exactCount);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     // 2-2) 게시글 조회 (페이지네이션 Cursor 조회)
     @PreAuthorize("hasAnyRole('USER','MANAGER', 'ADMIN')")
     @GetMapping("/cursor")
-    public ResponseEntity<ResponseDto<BoardResponseDto.SliceResponse>> getBoardsByCursor(
-            // 처음 요청이면 null (가장 최신부터 시작)
-            // : 목록을 항상 하나의 정렬 기준으로 고정 (id DESC - 최신 글 먼저)
-            // > 다음 페이지를 가져올 때는 기준 커서보다 더 오래된(작은 id값) 행만 가져오기
-            @RequestParam(required = false) Long cursorId,
-            @RequestParam(defaultValue = "10") @Min(1) @Max(10) int size
+    public ResponseEntity<ResponseDto<CursorPage<BoardResponseDto.SummaryResponse>>> getBoardsByCursor(
+            // 처음 요청이면 null (정렬 기준의 처음부터 시작)
+            // : 이전 응답의 nextCursor 를 그대로 전달 - 커서에 정렬 기준과 마지막 행 위치가 담겨 있음
+            // > 다음 페이지를 가져올 때는 커서 행 다음 순서의 행만 가져오기 (OFFSET 없음)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            // sort: 첫 요청에서만 사용 (id, title, createdAt, updatedAt 중 첫 번째 기준), 기본 id DESC
+            // EX) sort=title,asc
+            @RequestParam(required = false) String[] sort
     ) {
-        ResponseDto<BoardResponseDto.SliceResponse> response = boardService.getBoardsByCursor(cursorId, size);
+        ResponseDto<CursorPage<BoardResponseDto.SummaryResponse>> response = boardService.getBoardsByCursor(cursor, size, sort);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -1,10 +1,13 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.config.PasswordHashingConfig;
 import com.example.k5_iot_springboot.dto.G_Auth.request.SignInRequest;
 import com.example.k5_iot_springboot.dto.G_Auth.request.SignUpRequest;
 import com.example.k5_iot_springboot.dto.G_Auth.response.SignInResponse;
+import com.example.k5_iot_springboot.dto.G_Auth.response.SignInResult;
 import com.example.k5_iot_springboot.dto.J_Mail.MailRequest;
 import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.example.k5_iot_springboot.security.LoginAttemptThrottle;
 import com.example.k5_iot_springboot.security.UserPrincipal;
 import com.example.k5_iot_springboot.service.G_AuthService;
 import com.example.k5_iot_springboot.service.J_MailService;
@@ -12,39 +15,69 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/api/v1/auth") // WebSecurityConfig > /api/v1/auth/** -> 토큰없이 처리 가능
 // 회원가입, 로그인, 아이디 찾기, 비밀번호 재설정 등
-@RequiredArgsConstructor
 public class G_AuthController {
     private final G_AuthService authService;
     private final J_MailService mailService;
+    // 비밀번호 해시가 포함된 요청(회원가입/로그인/비밀번호 재설정) 전용 풀 - 대기열 초과시 503
+    private final Executor passwordHashExecutor;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+
+    public G_AuthController(G_AuthService authService,
+                            J_MailService mailService,
+                            @Qualifier(PasswordHashingConfig.PASSWORD_HASH_EXECUTOR) Executor passwordHashExecutor,
+                            LoginAttemptThrottle loginAttemptThrottle) {
+        this.authService = authService;
+        this.mailService = mailService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.loginAttemptThrottle = loginAttemptThrottle;
+    }
 
     /** 회원가입 */
     @PostMapping("/sign-up")
-    public ResponseEntity<ResponseDto<Void>> signUp(@Valid @RequestBody SignUpRequest req) {
-        authService.signUp(req);
-        return ResponseEntity.ok(ResponseDto.setSuccess("회원가입이 완료되었습니다.", null));
+    public CompletableFuture<ResponseEntity<ResponseDto<Void>>> signUp(@Valid @RequestBody SignUpRequest req) {
+        // 비밀번호 해시(BCrypt)는 전용 풀에서 실행 - 요청 스레드 즉시 반환
+        return CompletableFuture.supplyAsync(() -> {
+            authService.signUp(req);
+            return ResponseEntity.ok(ResponseDto.<Void>setSuccess("회원가입이 완료되었습니다.", null));
+        }, passwordHashExecutor);
     }
 
     /** 로그인: AccessToken + RefreshToken 발급 */
     @PostMapping("/sign-in")
-    public ResponseEntity<ResponseDto<SignInResponse>> signIn(@Valid @RequestBody SignInRequest req, HttpServletResponse response) {
-        ResponseDto<SignInResponse> result = authService.sighIn(req, response);
-        return ResponseEntity.ok().body(result);
+    public CompletableFuture<ResponseEntity<ResponseDto<SignInResponse>>> signIn(@Valid @RequestBody SignInRequest req,
+                                                                                 HttpServletRequest request) {
+        // 실패 횟수 한도 초과시 해시 풀에 넣기 전에 즉시 429 (사용자 조회/BCrypt 비교 생략)
+        // cf) 프록시(로드밸런서) 뒤에 배포시 신뢰 가능한 X-Forwarded-For 처리(server.forward-headers-strategy) 필요
+        String clientIp = request.getRemoteAddr();
+        loginAttemptThrottle.checkAllowed(req.loginId(), clientIp);
+
+        // 서비스는 해시 풀 스레드에서 실행 >> HttpServletResponse 를 넘기지 않고, 쿠키는 반환된 ResponseEntity 헤더로 설정
+        return CompletableFuture
+                .supplyAsync(() -> authService.sighIn(req, clientIp), passwordHashExecutor)
+                .thenApply(result -> ResponseEntity.ok()
+                        .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(result.refreshToken()).toString())
+                        .body(result.body()));
     }
 
     /** 로그아웃 (RefreshToken 쿠키 삭제) */
     @PostMapping("/sign-out")
-    public ResponseEntity<?> logout(HttpServletResponse response, @AuthenticationPrincipal UserPrincipal userPrincipal) throws IOException {
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response, @AuthenticationPrincipal UserPrincipal userPrincipal) throws IOException {
         // 인증 정보 확인
         if(userPrincipal == null) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -55,6 +88,8 @@ public class G_AuthController {
             return ResponseEntity.status(401).body(null);
         }
         authService.deleteRefreshToken(userPrincipal);
+        // 현재 Access Token 도 폐기 (만료 전까지 재사용 방지)
+        authService.revokeAccessToken(request.getHeader("Authorization"));
 
         // 쿠키 즉시 만료 처리 (서비스로 넘길 필요 X)
         // jakarta.servlet.http.Cookie
@@ -113,6 +148,16 @@ public class G_AuthController {
             return null;
     }
 
+    // private helper 메서드: 로그인 응답에 실을 RefreshToken 쿠키 (HttpOnly, 7일)
+    private static ResponseCookie refreshTokenCookie(String refreshToken) {
+        return ResponseCookie.from("refreshToken", refreshToken)
+                .httpOnly(true)
+                // .secure(true)
+                .path("/")
+                .maxAge(Duration.ofDays(7))
+                .build();
+    }
+
 
     /** 이메일 전송 */
     @PostMapping("/send-email")
@@ -132,8 +177,10 @@ public class G_AuthController {
 
     /** 비밀번호 재설정 */
     @PostMapping("/reset-password")
-    public ResponseEntity<ResponseDto<Void>> resetPassword(@Valid @RequestBody MailRequest.PasswordReset req) {
-        authService.resetPassword(req);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<ResponseDto<Void>>> resetPassword(@Valid @RequestBody MailRequest.PasswordReset req) {
+        return CompletableFuture.supplyAsync(() -> {
+            authService.resetPassword(req);
+            return ResponseEntity.noContent().<ResponseDto<Void>>build();
+        }, passwordHashExecutor);
     }
 }
@@ -1,24 +1,29 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.common.annotations.ConditionalGet;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.H_Article.request.ArticleCreateRequest;
 import com.example.k5_iot_springboot.dto.H_Article.request.ArticleUpdateRequest;
 import com.example.k5_iot_springboot.dto.H_Article.response.ArticleDetailResponse;
 import com.example.k5_iot_springboot.dto.H_Article.response.ArticleListResponse;
 import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.example.k5_iot_springboot.dto.SerializedResponse;
 import com.example.k5_iot_springboot.repository.H_ArticleRepository;
 import com.example.k5_iot_springboot.security.UserPrincipal;
 import com.example.k5_iot_springboot.service.H_ArticleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/articles")
 @RequiredArgsConstructor
+@ConditionalGet // 목록: 본문 해시 ETag, 상세: 응답 캐시의 ETag 사용
 public class H_ArticleController {
     private final H_ArticleService articleService;
     private final H_ArticleRepository h_ArticleRepository;
@@ -33,10 +38,14 @@ public class H_ArticleController {
         return ResponseEntity.ok().body(response);
     }
 
-    // 조회(전체)
+    // 조회(전체) - 최신순 커서 페이지
+    // : cursor - 이전 응답의 nextCursor (처음 요청이면 생략), size - 기본 20, 최대 100
     @GetMapping
-    public ResponseEntity<ResponseDto<List<ArticleListResponse>>> getAllArticles() {
-        ResponseDto<List<ArticleListResponse>> response = articleService.getAllArticles();
+    public ResponseEntity<ResponseDto<CursorPage<ArticleListResponse>>> getAllArticles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ResponseDto<CursorPage<ArticleListResponse>> response = articleService.getAllArticles(cursor, size);
         return ResponseEntity.ok().body(response);
     }
 
@@ -46,13 +55,21 @@ public class H_ArticleController {
         return "현재 DB에서 조회된 Article 개수: " + count;
     }
 
-    // 조회(단건)
+    // 조회(단건) - 캐시된 JSON 바이트를 그대로 응답 (본문 형식은 ResponseDto<ArticleDetailResponse> 와 동일)
+    // : ETag 헤더 제공 >> 클라이언트가 If-None-Match 로 재검증, 변경이 없으면 본문 없이 304 Not Modified
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDto<ArticleDetailResponse>> getArticleById(
-            @PathVariable Long id
+    public ResponseEntity<byte[]> getArticleById(
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
-        ResponseDto<ArticleDetailResponse> response = articleService.getArticleById(id);
-        return ResponseEntity.ok().body(response);
+        SerializedResponse response = articleService.getArticleDetailJson(id);
+        if (webRequest.checkNotModified(response.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     // 수정: 작성자, MANAGER, ADMIN  가능
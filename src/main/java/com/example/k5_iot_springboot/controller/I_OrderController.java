@@ -1,6 +1,7 @@
 package com.example.k5_iot_springboot.controller;
 
 import com.example.k5_iot_springboot.common.enums.OrderStatus;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.I_Order.request.OrderRequest;
 import com.example.k5_iot_springboot.dto.I_Order.response.OrderResponse;
 import com.example.k5_iot_springboot.dto.ResponseDto;
@@ -14,7 +15,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -63,15 +63,18 @@ public class I_OrderController {
     }
 
     // 주문검색: USER(본인꺼만), ADMIN, MANAGER는 전체 사용자꺼 다 조회가능
+    // : 최신순 커서 페이지 (cursor - 이전 응답의 nextCursor, size - 기본 20, 최대 100)
     @GetMapping
-    ResponseEntity<ResponseDto<List<OrderResponse.Detail>>> search(
+    ResponseEntity<ResponseDto<CursorPage<OrderResponse.Detail>>> search(
             @AuthenticationPrincipal UserPrincipal userPrincipal, // 로그인한 사용자 정보
             @RequestParam(required = false) Long userId,          // 검색할 사용자 정보
             @RequestParam(required = false) OrderStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)LocalDateTime from, // 시작 시간 설정
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)LocalDateTime to    // 끝 시간 설정
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)LocalDateTime to,   // 끝 시간 설정
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
             ) {
-        ResponseDto<List<OrderResponse.Detail>> response = orderService.search(userPrincipal, userId, status, from, to);
+        ResponseDto<CursorPage<OrderResponse.Detail>> response = orderService.search(userPrincipal, userId, status, from, to, cursor, size);
         return ResponseEntity.ok().body(response);
     }
 
@@ -1,9 +1,11 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.common.annotations.ConditionalGet;
 import com.example.k5_iot_springboot.common.constants.ApiMappingPattern;
 import com.example.k5_iot_springboot.dto.I_Order.request.ProductRequest;
 import com.example.k5_iot_springboot.dto.I_Order.response.ProductResponse;
 import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.example.k5_iot_springboot.entity.I_Product;
 import com.example.k5_iot_springboot.security.UserPrincipal;
 import com.example.k5_iot_springboot.service.I_ProductService;
 import jakarta.validation.Valid;
@@ -46,6 +48,8 @@ public class I_ProductController {
     }
 
     // 제품 조회
+    // : 응답이 products 행 1건으로만 구성 >> updated_at 기반 ETag, 변경 없으면 서비스 호출 없이 304
+    @ConditionalGet(entity = I_Product.class, idVariable = "productId")
     @GetMapping(ApiMappingPattern.Products.ID_ONLY)
     public ResponseEntity<ResponseDto<ProductResponse.DetailResponse>> getProductById(
             @PathVariable Long productId
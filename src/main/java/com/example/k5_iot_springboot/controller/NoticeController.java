@@ -1,16 +1,17 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.common.annotations.ConditionalGet;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.Notice;
 import com.example.k5_iot_springboot.service.NoticeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @CrossOrigin(origins = {"http://localhost:5500", "http://127.0.0.1:5500"})
 @RestController
 @RequestMapping("/api/v1/notices")
 @RequiredArgsConstructor
+@ConditionalGet
 public class NoticeController {
     private final NoticeService noticeService;
 
@@ -20,12 +21,18 @@ public class NoticeController {
         return result;
     }
 
+    // 최신순 커서 페이지 - cursor: 이전 응답의 nextCursor, size: 기본 20, 최대 100
     @GetMapping
-    public List<Notice> getAll() {
-        List<Notice> result = noticeService.getAll();
+    public CursorPage<Notice> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<Notice> result = noticeService.getAll(cursor, size);
         return result;
     }
 
+    // 공지는 작성 후 수정되지 않음 >> 60초간 재검증 없이 캐시 사용 (삭제는 최대 60초 늦게 반영)
+    @ConditionalGet(maxAge = 60)
     @GetMapping("/{id}")
     public Notice getById(@PathVariable Long id) {
         Notice result = noticeService.getById(id);
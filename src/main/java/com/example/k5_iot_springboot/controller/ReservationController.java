@@ -1,5 +1,6 @@
 package com.example.k5_iot_springboot.controller;
 
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.Reservation.ReservationResponseDto;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.service.ReservationService;
@@ -8,21 +9,23 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/trucks/{truckId}/reservations")
 public class ReservationController {
     private final ReservationService reservationService;
 
+    // 트럭별 예약 목록 (최신순 커서 페이지) - cursor: 이전 응답의 nextCursor, size: 기본 20, 최대 100
     @GetMapping
-    public ResponseEntity<ResponseDto<List<ReservationResponseDto>>> getReservationsByTruck(
-            @PathVariable Long truckId
+    public ResponseEntity<ResponseDto<CursorPage<ReservationResponseDto>>> getReservationsByTruck(
+            @PathVariable Long truckId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        ResponseDto<List<ReservationResponseDto>> result = reservationService.getReservationsByTruck(truckId);
+        ResponseDto<CursorPage<ReservationResponseDto>> result = reservationService.getReservationsByTruck(truckId, cursor, size);
         return ResponseEntity.ok(result);
     }
 
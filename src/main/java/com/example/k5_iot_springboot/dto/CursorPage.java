@@ -0,0 +1,45 @@
+package com.example.k5_iot_springboot.dto;
+
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이지 응답 - ResponseDto 의 data 로 사용
+ * - 모든 커서 목록 API 의 공통 응답 형태 (요청 크기는 PageLimits.clamp)
+ * @param content 현재 페이지 항목
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursor 다음 요청에 그대로 전달할 불투명 커서 (다음 페이지가 없으면 null)
+ * */
+public record CursorPage<T>(
+        List<T> content,
+        boolean hasNext,
+        String nextCursor
+) {
+    /**
+     * id DESC 목록 조회 결과(size + 1 건 조회)로 페이지 생성
+     * - size 를 초과한 1건은 다음 페이지 존재 여부 판단에만 사용
+     * */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, Long> idOf) {
+        return of(rows, size, mapper, idOf, Sort.Direction.DESC);
+    }
+
+    /** id 순(ASC/DESC) 목록 조회 결과로 페이지 생성 - 커서 = 마지막 항목 id */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, Long> idOf,
+                                          Sort.Direction direction) {
+        return ofCursor(rows, size, mapper, row -> KeysetCursor.forId(idOf.apply(row), direction).encode());
+    }
+
+    /**
+     * 임의 정렬 목록 조회 결과로 페이지 생성
+     * @param cursorOf 마지막 항목 -> 다음 요청 커서 (정렬 값 + id 를 담은 KeysetCursor 인코딩 문자열)
+     * */
+    public static <E, T> CursorPage<T> ofCursor(List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.k5_iot_springboot.dto.D_Comment.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// 댓글 일괄 등록 요청의 배열 원소 1건 - 스트리밍 파싱하므로 검증은 서비스에서 직접 수행
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CommentImportRowDto(
+        Long postId,
+        String content,
+        String commenter
+) {}
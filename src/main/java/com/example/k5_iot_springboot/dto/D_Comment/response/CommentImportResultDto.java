@@ -0,0 +1,21 @@
+package com.example.k5_iot_springboot.dto.D_Comment.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// === 댓글 일괄 등록 결과
+@Builder
+public record CommentImportResultDto(
+        long total,         // 읽은 행 수
+        long imported,      // 저장된 댓글 수
+        long skipped,       // 검증 실패/저장 실패로 제외된 행 수
+        boolean aborted,    // 요청 본문 JSON 오류로 중단된 경우 true (이전 청크는 저장됨)
+        List<ImportError> errors, // 오류 상세 (최대 개수까지만)
+        long elapsedMillis
+) {
+    public record ImportError(
+            long index,     // 요청 배열 내 위치 (0부터)
+            String reason
+    ) {}
+}
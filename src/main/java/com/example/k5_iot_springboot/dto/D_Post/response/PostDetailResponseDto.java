@@ -1,14 +1,12 @@
 package com.example.k5_iot_springboot.dto.D_Post.response;
 
 import com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto;
-import com.example.k5_iot_springboot.entity.D_Comment;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.D_Post;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -19,28 +17,29 @@ public record PostDetailResponseDto (
         String title,
         String content,
         String author,
-        List<CommentResponseDto> comments
+        Integer commentCount,
+        List<CommentResponseDto> comments,  // 댓글 첫 페이지 (단건 조회시에만)
+        String commentsNextCursor           // 다음 댓글 페이지 커서 (없으면 생략)
+                                            // >> GET /api/v1/posts/{postId}/comments?cursor=...
 ) {
 
-    // D_Post 엔티티 -> PostDetailResponseDto 로 변환해줌
+    // D_Post 엔티티 -> PostDetailResponseDto 로 변환해줌 (댓글 제외)
+    // : 댓글 컬렉션(post.getComments())에 접근하지 않음 >> 지연 로딩 초기화(댓글 전체 SELECT) 없음
     public static PostDetailResponseDto from(D_Post post) {
-        if(post == null) return null; // NPE 방지
-
-        // 댓글 엔티티 가져오기
-        List<D_Comment> comments = post.getComments() != null ? post.getComments() : Collections.emptyList();
+        return from(post, null);
+    }
 
-        List<CommentResponseDto> commentDtos = comments.stream()
-                .filter(Objects::nonNull)
-                // .filter(comment -> comment != null)
-                .map(CommentResponseDto::from)
-                // .map(comment -> CommentResponseDto.from(comment))
-                .toList();
+    // 게시글 + 댓글 한 페이지
+    public static PostDetailResponseDto from(D_Post post, CursorPage<CommentResponseDto> comments) {
+        if(post == null) return null; // NPE 방지
 
         return new PostDetailResponseDto(
                 post.getId(),
                 post.getTitle(),
                 post.getContent(),
                 post.getAuthor(),
-                commentDtos);
+                post.getCommentCount(),
+                comments != null ? comments.content() : null,
+                comments != null ? comments.nextCursor() : null);
     }
 }
@@ -35,6 +35,17 @@ public record PostListResponseDto (
         );
      }
 
+    // 피드 프로젝션 -> 요약된 PostListResponseDto (contentPrefix 는 maxLen + 1 자까지만 조회된 값)
+    public static PostListResponseDto from(D_PostRepository.PostFeedProjection p, int maxLen) {
+        if(p == null) return null;
+        return new PostListResponseDto(
+                p.getId(),
+                p.getTitle(),
+                p.getContentPrefix(),
+                p.getAuthor()
+        ).summarize(maxLen);
+    }
+
     public PostListResponseDto summarize(int maxLen) {
         String summarized = content == null ? null :
                 (content.length() <= maxLen ? content : content.substring(0, maxLen) + "...");
@@ -0,0 +1,15 @@
+package com.example.k5_iot_springboot.dto.D_Post.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// === 검색 결과 (관련도 순 페이지)
+@Builder
+public record PostSearchResponseDto(
+        List<PostListResponseDto> content,
+        int totalCount, // 전체 일치 건수
+        int page,
+        int size,
+        boolean hasNext
+) {}
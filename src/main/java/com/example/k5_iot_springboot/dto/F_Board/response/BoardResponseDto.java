@@ -2,8 +2,9 @@ package com.example.k5_iot_springboot.dto.F_Board.response;
 
 import com.example.k5_iot_springboot.common.utils.DateUtils;
 import com.example.k5_iot_springboot.entity.F_Board;
+import com.example.k5_iot_springboot.repository.F_BoardRepositoryCustom;
 import lombok.Builder;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -59,6 +60,15 @@ public class BoardResponseDto {
                     DateUtils.toUtcString(board.getCreatedAt())
             );
         }
+
+        public static SummaryResponse from(F_BoardRepositoryCustom.SummaryRow row) {
+            return new SummaryResponse(
+                    row.id(),
+                    row.title(),
+                    DateUtils.toKstString(row.createdAt()),
+                    DateUtils.toUtcString(row.createdAt())
+            );
+        }
     }
 
     // === 페이지 메타 정보 ===
@@ -67,21 +77,22 @@ public class BoardResponseDto {
             int page,           // 현재 페이지(0-based)
             int size,           // 페이지 크기
             Long totalElements, // 전체 개수
+            boolean totalExact, // 전체 개수가 정확한 값인지 (false: 주기적으로 갱신되는 근사값)
             int totalPages,     // 전체 페이지수
             boolean hasNext,
             boolean hasPrevious,
             String sort         // 문자열화된 정렬정보
     ) {
-        public static PageMeta from(Page<?> p) {
-            String sort = p.getSort().toString(); // ex) createdAt: DESC
+        public static PageMeta of(int page, int size, long total, boolean totalExact, boolean hasNext, Sort sort) {
             return PageMeta.builder()
-                    .page(p.getNumber())
-                    .size(p.getSize())
-                    .totalElements(p.getTotalElements())
-                    .totalPages(p.getTotalPages())
-                    .hasNext(p.hasNext())
-                    .hasPrevious(p.hasPrevious())
-                    .sort(sort)
+                    .page(page)
+                    .size(size)
+                    .totalElements(total)
+                    .totalExact(totalExact)
+                    .totalPages((int) ((total + size - 1) / size))
+                    .hasNext(hasNext)
+                    .hasPrevious(page > 0)
+                    .sort(sort.toString()) // ex) createdAt: DESC,id: DESC
                     .build();
         }
     }
@@ -92,12 +103,4 @@ public class BoardResponseDto {
             PageMeta meta
     ){}
 
-    // === Cursor 기반 응답
-    @Builder
-    public record SliceResponse(
-            List<SummaryResponse> content,
-            boolean hasNext,
-            Long nextCursor // 다음 호출시 사용할 cursorId(마지막 아이템의 id등)
-    ) {}
-
 }
@@ -0,0 +1,16 @@
+package com.example.k5_iot_springboot.dto.G_Auth.response;
+
+import com.example.k5_iot_springboot.dto.ResponseDto;
+
+/**
+ * 로그인 처리 결과 (서비스 -> 컨트롤러 전달용, 그대로 직렬화하지 않음)
+ * - body: 응답 본문
+ * - refreshToken: 쿠키로 내려줄 Refresh Token
+ *      >> 로그인은 해시 전용 풀에서 실행되므로 서비스가 HttpServletResponse 에 직접 쓰지 않고
+ *         , 컨트롤러가 응답(ResponseEntity)의 Set-Cookie 헤더로 설정
+ * */
+public record SignInResult(
+        ResponseDto<SignInResponse> body,
+        String refreshToken
+) {
+}
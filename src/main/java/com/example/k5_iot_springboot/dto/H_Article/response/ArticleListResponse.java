@@ -1,22 +1,12 @@
 package com.example.k5_iot_springboot.dto.H_Article.response;
 
-import com.example.k5_iot_springboot.entity.H_Article;
-
 import java.time.LocalDateTime;
 
+// 목록 응답 - H_ArticleRepository 의 JPQL 생성자 표현식으로 직접 조회 (엔티티/지연 로딩 없음, content 제외)
 public record ArticleListResponse(
         Long id,
         String title,
         String authorLoginId,
+        String authorNickname,
         LocalDateTime createdAt
-) {
-    // 도메인 엔티티 -> DTO 매핑 매서드
-    public static ArticleListResponse from(H_Article article) {
-        return new ArticleListResponse(
-                article.getId(),
-                article.getTitle(),
-                article.getAuthor().getLoginId(),
-                article.getCreatedAt()
-        );
-    }
-}
+) {}
@@ -0,0 +1,8 @@
+package com.example.k5_iot_springboot.dto;
+
+/**
+ * 미리 직렬화된 응답 본문 (JSON 바이트) + ETag
+ * - 캐시에 보관한 바이트를 재직렬화 없이 그대로 응답 (ResponseEntity<byte[]>)
+ * - etag: 본문 해시 기반 강한 ETag (큰따옴표 포함)
+ * */
+public record SerializedResponse(byte[] body, String etag) {}
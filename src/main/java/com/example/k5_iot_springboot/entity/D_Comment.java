@@ -46,6 +46,14 @@ public class D_Comment {
         return new D_Comment(content, commenter);
     }
 
+    // 게시글 참조(프록시 가능)를 직접 지정하여 생성
+    // : post.addComment() 는 comments 컬렉션을 초기화(전체 SELECT)하므로, 댓글 단건 생성에는 이 메서드 사용
+    public static D_Comment create(D_Post post, String content, String commenter) {
+        D_Comment comment = new D_Comment(content, commenter);
+        comment.post = post;
+        return comment;
+    }
+
     // 해당 패키지 내에서만 댓글에 세팅되도록 가시성 축소
     void setPost(D_Post post) {
         this.post = post;
@@ -2,6 +2,7 @@ package com.example.k5_iot_springboot.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -43,6 +44,13 @@ public class D_Post {
     @Column(nullable = false, length = 100)
     private String author;
 
+    @Comment("댓글 수 (비정규화)")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0") // query2.sql 의 DEFAULT 0 과 동일 (스키마 자동 생성 시에도 INSERT 가능하도록)
+    // : INSERT 시 DB 기본값(0), 이후에는 D_PostRepository.adjustCommentCount 의 상대 UPDATE 로만 변경
+    //      >> 변경 감지(dirty checking)가 오래된 값으로 덮어쓰지 않도록 insertable/updatable = false
+    private int commentCount;
+
     // 1:N 관계에서 1 에 해당하는 엔티티에서 @OneToMany
     // @OneToMany
     // - Post: Comment = 1: N 관계에서 1 쪽 매핑임을 설정하는 어노테이션
@@ -54,6 +54,10 @@ public class G_User extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Gender gender;
 
+    // 이메일 인증 여부 - 인증 링크 확인 시 UPDATE 1회로 변경 (G_UserRepository.markEmailVerified)
+    @Column(name = "email_verified", nullable = false)
+    private boolean emailVerified = false;
+
     // 여러 권한 보유- 한명이 여러개의 권한을 가질 수 있다.
 //    @ElementCollection(fetch = FetchType.LAZY) // JWT 에 roles 를 저장하는 구조 - LAZY 가능
 //    @CollectionTable(
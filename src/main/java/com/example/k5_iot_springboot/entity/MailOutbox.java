@@ -0,0 +1,90 @@
+package com.example.k5_iot_springboot.entity;
+
+import com.example.k5_iot_springboot.common.enums.MailStatus;
+import com.example.k5_iot_springboot.entity.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/*
+    메일 발송 대기열 (Outbox)
+    - 요청 스레드는 행 INSERT 만 하고 즉시 반환, 실제 발송은 MailOutboxDispatcher 가 백그라운드에서 처리
+    - 실패 시 지수 백오프로 재시도, 최대 횟수 초과시 DEAD (dead-letter) 로 보관
+    - 시각 값은 RevokedToken/RefreshToken 과 같이 epoch ms 로 저장
+ */
+@Entity
+@Table(
+        name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String recipient;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.LONGVARCHAR)
+    private String body; // HTML 본문
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailStatus status = MailStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    /* 다음 발송 가능 시각(ms) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private Long nextAttemptAt;
+
+    /* 워커가 가져간 시각(ms) - SENDING 상태로 오래 남은 행(프로세스 중단 등) 복구 기준 */
+    @Column(name = "claimed_at")
+    private Long claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    private MailOutbox(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.nextAttemptAt = System.currentTimeMillis();
+    }
+
+    public void markSent() {
+        this.status = MailStatus.SENT;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 처리
+     * - maxAttempts 미만: backoffMs * 2^(attempts-1) 후 재시도 (상한 maxBackoffMs)
+     * - maxAttempts 도달: DEAD
+     * */
+    public void markFailed(String error, int maxAttempts, long backoffMs, long maxBackoffMs) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+
+        if (attempts >= maxAttempts) {
+            this.status = MailStatus.DEAD;
+            return;
+        }
+        long delay = Math.min(maxBackoffMs, backoffMs << Math.min(attempts - 1, 20));
+        this.status = MailStatus.PENDING;
+        this.nextAttemptAt = System.currentTimeMillis() + delay;
+    }
+}
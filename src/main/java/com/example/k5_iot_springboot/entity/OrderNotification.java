@@ -0,0 +1,58 @@
+package com.example.k5_iot_springboot.entity;
+
+import com.example.k5_iot_springboot.common.enums.OrderStatus;
+import com.example.k5_iot_springboot.entity.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    주문 상태 알림 대기 (메일 묶음 전)
+    - 주문 상태 변경 트랜잭션 안에서 1행 INSERT >> 주문 변경과 함께 커밋 (프로세스가 중단되어도 알림 유실 X)
+    - OrderStatusNotifier 가 사용자별로 모아 mail_outbox 에 1통으로 등록하면서 같은 트랜잭션에서 삭제
+    - 시각 값은 MailOutbox 와 같이 epoch ms 로 저장
+ */
+@Entity
+@Table(
+        name = "order_notifications",
+        indexes = {
+                @Index(name = "idx_order_notifications_not_before", columnList = "not_before"),
+                @Index(name = "idx_order_notifications_user", columnList = "user_id, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderNotification extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = false, length = 20)
+    private OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 20)
+    private OrderStatus toStatus;
+
+    /* 묶음 발송 가능 시각(ms) = 변경 시각 + window - 사용자의 가장 이른 값이 지나면 그 사용자의 알림 전체를 발송 */
+    @Column(name = "not_before", nullable = false)
+    private Long notBefore;
+
+    @Builder
+    private OrderNotification(Long userId, Long orderId, OrderStatus fromStatus, OrderStatus toStatus, Long notBefore) {
+        this.userId = userId;
+        this.orderId = orderId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.notBefore = notBefore;
+    }
+}
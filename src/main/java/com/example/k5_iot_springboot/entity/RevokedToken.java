@@ -0,0 +1,32 @@
+package com.example.k5_iot_springboot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+    폐기된 Access Token 기록 (로그아웃 등)
+    - 서버 재시작 후에도 폐기 목록을 복원하기 위한 영속 저장소
+    - 요청마다 조회하지 않음: 기동 시 메모리(TokenRevocationStore)로 적재하여 사용
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+        name = "revoked_tokens",
+        indexes = @Index(name = "idx_revoked_tokens_expiry", columnList = "expiry")
+)
+public class RevokedToken {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /* 토큰 식별자 (jti 클레임) */
+    @Column(nullable = false, unique = true, length = 64)
+    private String jti;
+
+    /* 폐기 정보 만료 시각 (ms 단위, 토큰 exp + clock-skew) */
+    @Column(nullable = false)
+    private Long expiry;
+}
@@ -0,0 +1,7 @@
+package com.example.k5_iot_springboot.event;
+
+/**
+ * 게시글(H_Article) 수정/삭제 이벤트
+ * - 커밋 이후 ArticleDetailCache 가 해당 게시글의 캐시된 상세 응답을 제거
+ * */
+public record ArticleChangedEvent(Long articleId) {}
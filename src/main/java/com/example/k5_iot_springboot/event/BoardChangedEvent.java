@@ -0,0 +1,7 @@
+package com.example.k5_iot_springboot.event;
+
+/**
+ * 게시판 게시글 생성/수정 이벤트
+ * - 커밋 이후 BoardListCache 가 페이지 경계(seek 기준점)를 비우고, 생성이면 근사 전체 개수를 증가
+ * */
+public record BoardChangedEvent(Long boardId, boolean created) {}
@@ -0,0 +1,7 @@
+package com.example.k5_iot_springboot.event;
+
+/**
+ * 게시글 댓글 수 변경 이벤트 (댓글 생성: +1, 삭제: -1)
+ * - D_CommentServiceImpl 에서 발행, 트랜잭션 커밋 이후 TrendingPostsCache 가 수신
+ * */
+public record CommentCountChangedEvent(Long postId, int delta) {}
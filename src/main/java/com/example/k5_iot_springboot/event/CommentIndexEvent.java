@@ -0,0 +1,8 @@
+package com.example.k5_iot_springboot.event;
+
+/**
+ * 댓글 검색 색인 갱신 이벤트
+ * - 댓글 생성(oldContent == null) / 수정 / 삭제(newContent == null) 시 D_CommentServiceImpl 에서 발행
+ * - 트랜잭션 커밋 이후 PostSearchIndex 가 변경된 댓글의 gram 만 빼고 더함 (게시글의 다른 댓글은 다시 읽지 않음)
+ * */
+public record CommentIndexEvent(Long postId, String oldContent, String newContent) {}
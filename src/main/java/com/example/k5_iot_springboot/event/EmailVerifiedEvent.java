@@ -0,0 +1,9 @@
+package com.example.k5_iot_springboot.event;
+
+/**
+ * 이메일 인증 완료 이벤트
+ * - J_MailServiceImpl.verifyEmail 에서 발행, 트랜잭션 커밋 이후 인증 토큰(jti)을 폐기 등록 (1회 사용 처리)
+ *      >> 인증 처리가 롤백되면 폐기하지 않음 - 같은 링크로 다시 인증 가능
+ * @param revokeUntil 폐기 정보 만료 시각(ms) - 토큰 exp + clock-skew
+ * */
+public record EmailVerifiedEvent(String jti, long revokeUntil) {}
@@ -0,0 +1,14 @@
+package com.example.k5_iot_springboot.event;
+
+import com.example.k5_iot_springboot.common.enums.OrderStatus;
+
+/**
+ * 주문 상태 변경 이벤트
+ * - I_OrderServiceImpl 에서 발행, 트랜잭션 커밋 이후 OrderStatusNotifier 가 수신
+ * */
+public record OrderStatusChangedEvent(
+        Long orderId,
+        Long userId,
+        OrderStatus from,
+        OrderStatus to
+) {}
@@ -0,0 +1,8 @@
+package com.example.k5_iot_springboot.event;
+
+/**
+ * 게시글 검색 색인 갱신 이벤트
+ * - 게시글 생성·수정·삭제 시 발행, 트랜잭션 커밋 이후 PostSearchIndex 가 해당 게시글의 제목/작성자만 반영
+ * - 댓글 변경은 CommentIndexEvent 사용
+ * */
+public record PostIndexEvent(Long postId) {}
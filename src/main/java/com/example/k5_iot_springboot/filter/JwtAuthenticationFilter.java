@@ -1,17 +1,24 @@
 package com.example.k5_iot_springboot.filter;
 
+import com.example.k5_iot_springboot.common.enums.ErrorCode;
+import com.example.k5_iot_springboot.common.enums.TokenPrecheckResult;
 import com.example.k5_iot_springboot.entity.G_User;
+import com.example.k5_iot_springboot.handler.ErrorResponseWriter;
 import com.example.k5_iot_springboot.provider.JwtProvider;
 import com.example.k5_iot_springboot.repository.G_UserRepository;
+import com.example.k5_iot_springboot.security.TokenRevocationStore;
 import com.example.k5_iot_springboot.security.UserPrincipal;
 import com.example.k5_iot_springboot.security.UserPrincipalMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -24,9 +31,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,6 +56,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider; // 의존성 주입
     private final G_UserRepository g_UserRepository;
     private final UserPrincipalMapper principalMapper;
+    private final TokenRevocationStore revocationStore;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
+
+    // 사전 검사 거부 사유별 카운터 (jwt.precheck.rejected{reason=...}) - 기동 시 1회 등록
+    private final Map<TokenPrecheckResult, Counter> precheckRejected = new EnumMap<>(TokenPrecheckResult.class);
+
+    @PostConstruct
+    void registerMetrics() {
+        for(TokenPrecheckResult reason : TokenPrecheckResult.values()) {
+            if(reason == TokenPrecheckResult.VALID) continue;
+            precheckRejected.put(reason, Counter.builder("jwt.precheck.rejected")
+                    .tag("reason", reason.name())
+                    .description("서명 검증 전 구조 검사에서 거부된 토큰 수")
+                    .register(meterRegistry));
+        }
+    }
 
     /**
      * 스프링 시큐리티 필터가 매 요청마다 호출하는 핵심 메서드
@@ -97,14 +122,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 5) 토큰 유효성 검사(서명/만료 포함)
-            if(!jwtProvider.isValidToken(token)) {
+            // 5) 구조 사전 검사 (길이/구간/문자/header) - 형식이 잘못된 토큰은 서명 검증 없이 즉시 거부
+            TokenPrecheckResult precheck = jwtProvider.precheck(token);
+            if(precheck != TokenPrecheckResult.VALID) {
+                precheckRejected.get(precheck).increment();
                 unauthorized(response, "토큰이 유효하지 않거나 만료되었습니다.");
                 return;
             }
 
+            // 5-1) 토큰 유효성 검사(서명/만료 포함) + Claims 추출 (1회 파싱, 5) 의 사전 검사 결과 재사용)
+            Claims claims = jwtProvider.getValidClaimsOrNull(token, precheck);
+            if(claims == null) {
+                unauthorized(response, "토큰이 유효하지 않거나 만료되었습니다.");
+                return;
+            }
+
+            // 5-2) 폐기된 토큰(로그아웃 등) 차단 - 메모리 조회(O(1)), DB 조회 없음
+            if(revocationStore.isRevoked(claims.getId())) {
+                unauthorized(response, "폐기된 토큰입니다. 다시 로그인 해주세요.");
+                return;
+            }
+
             // 6) 사용자 식별자 & 권한 추출
-            String username= jwtProvider.getUsernameFromJwt(token);
+            String username= claims.getSubject();
 
             // +) DB 재조회 - UserPrincipal 구성 (최신 권한/상태 반영)
             G_User user = g_UserRepository.findByLoginId(username)
@@ -178,16 +218,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // +) hasAuthority("권한") 는 명시된 문자열 그대로 권한을 확인
     }
 
-    /** 401 응답 헬퍼(JSON) */
+    /** 401 응답 헬퍼(JSON) - 미리 직렬화된 본문을 그대로 기록 (ErrorResponseWriter) */
     private void unauthorized(HttpServletResponse response, String message) throws IOException {
-        // HTTP 상태 코드, 문자 인코딩 설정, 응답 본문 형식, JSON 문자열의 응답 본문을 정의/기록
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getWriter().write("""
-                {"result": "fail", 
-                 "message": "%s"}
-                """.formatted(message));
+        errorResponseWriter.write(response, ErrorCode.UNAUTHORIZED, message);
     }
 
 }
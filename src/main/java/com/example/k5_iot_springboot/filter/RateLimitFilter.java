@@ -0,0 +1,165 @@
+package com.example.k5_iot_springboot.filter;
+
+import com.example.k5_iot_springboot.common.enums.ErrorCode;
+import com.example.k5_iot_springboot.config.RateLimitProperties;
+import com.example.k5_iot_springboot.handler.ErrorResponseWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/*
+ * ==== RateLimitFilter ====
+ * : 공개 엔드포인트(permitAll) 요청 횟수 제한 필터 - JwtAuthenticationFilter 앞에 배치 (WebSecurityConfig)
+ *  >> 토큰 파싱/DB 조회 이전에 과도한 요청을 차단
+ *
+ * [ 버킷 구조 - GCRA(Generic Cell Rate Algorithm) 토큰 버킷 ]
+ * - 키: 라우트 이름 + 클라이언트 IP
+ * - 버킷 상태는 TAT(이론상 다음 도착 시각, nanos) 하나 >> AtomicLong 1개, CAS 로 갱신 (락 없음)
+ *      허용 조건: max(TAT, now) + interval - now <= interval * capacity
+ * - 버킷 맵은 ConcurrentHashMap (내부적으로 bin 단위로 분할된 구조 - 조회는 락 없음)
+ * - TAT 가 현재보다 과거인 버킷 = 토큰이 가득 찬 상태 >> 새 버킷과 동일하므로 주기적으로 제거해도 손실 없음
+ *
+ * cf) 라우트에 해당하지 않는 요청은 그대로 통과
+ * */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<CompiledRoute> routes;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ErrorResponseWriter errorResponseWriter) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.errorResponseWriter = errorResponseWriter;
+        this.routes = properties.getRoutes().stream().map(CompiledRoute::of).toList();
+
+        Gauge.builder("rate_limit.buckets", buckets, Map::size)
+                .description("활성 rate limit 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || routes.isEmpty() || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        CompiledRoute route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // cf) 프록시 뒤에 배포시 server.forward-headers-strategy 설정으로 실제 클라이언트 IP 반영
+        String key = route.name + '|' + request.getRemoteAddr();
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now)); // 새 버킷 = 토큰 가득
+
+        long waitNanos = route.tryAcquire(bucket, now);
+        if (waitNanos > 0) {
+            rejectedCounter(route.name).increment();
+            tooManyRequests(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /** 토큰이 가득 찬(유휴) 버킷 제거 */
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(e -> e.getValue().get() - now <= 0);
+    }
+
+    private CompiledRoute match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        String method = request.getMethod();
+        for (CompiledRoute route : routes) {
+            if (route.matches(method, path)) return route;
+        }
+        return null;
+    }
+
+    private Counter rejectedCounter(String routeName) {
+        return rejectedCounters.computeIfAbsent(routeName, name -> Counter.builder("rate_limit.rejected")
+                .tag("route", name)
+                .description("rate limit 초과로 거부된 요청 수")
+                .register(meterRegistry));
+    }
+
+    /** 429 응답 헬퍼(JSON) - 본문은 기동 시 직렬화된 고정값 (ErrorResponseWriter) */
+    private void tooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    /** 설정값을 요청 매칭/버킷 계산용으로 미리 변환한 라우트 */
+    private record CompiledRoute(
+            String name,
+            List<PathPattern> patterns,
+            Set<String> methods,
+            long intervalNanos, // 토큰 1개 충전 시간
+            long toleranceNanos // intervalNanos * capacity
+    ) {
+        static CompiledRoute of(RateLimitProperties.Route r) {
+            long interval = Math.max(1L, (long) (1_000_000_000L / r.getRefillPerSecond()));
+            return new CompiledRoute(
+                    r.getName(),
+                    r.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                    r.getMethods().stream().map(m -> m.trim().toUpperCase(Locale.ROOT)).collect(Collectors.toSet()),
+                    interval,
+                    interval * Math.max(1, r.getCapacity())
+            );
+        }
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) return false;
+            for (PathPattern p : patterns) {
+                if (p.matches(path)) return true;
+            }
+            return false;
+        }
+
+        /** 토큰 1개 획득 시도 - 성공: 0, 실패: 다음 토큰까지 대기 시간(nanos) */
+        long tryAcquire(AtomicLong tat, long now) {
+            while (true) {
+                long cur = tat.get();
+                long base = (cur - now > 0) ? cur : now;
+                long next = base + intervalNanos;
+                long overflow = next - now - toleranceNanos;
+                if (overflow > 0) return overflow;
+                if (tat.compareAndSet(cur, next)) return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.k5_iot_springboot.handler;
+
+import com.example.k5_iot_springboot.common.annotations.ConditionalGet;
+import com.example.k5_iot_springboot.entity.base.BaseTimeEntity;
+import com.example.k5_iot_springboot.service.impl.EntityVersionProbe;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * === ConditionalGetInterceptor ===
+ * : @ConditionalGet 이 붙은 GET/HEAD 핸들러의 Cache-Control 지정 + 버전 기반 조건부 요청 처리
+ *
+ * - Cache-Control 은 성공(2xx)/304 응답에만 지정 - 404/400 등 오류 응답이 공유 캐시에 저장되지 않도록
+ *      1) 여기서 304 로 끝내는 경우: 바로 지정
+ *      2) 컨트롤러를 실행하는 경우: 요청 속성에 보관 후 ConditionalGetResponseAdvice 가 상태 코드를 보고 지정
+ *      cf) Spring Security 의 기본 no-store 헤더는 Cache-Control 이 없을 때만 쓰임 (오류 응답은 no-store 유지)
+ * - entity 지정 핸들러
+ *      1) 경로 변수의 id 로 updated_at 만 조회 (EntityVersionProbe)
+ *      2) 강한 ETag("엔티티명-id-수정시각") + Last-Modified 생성
+ *      3) 요청의 If-None-Match / If-Modified-Since 와 일치하면 304 응답 후 컨트롤러 실행 X
+ *         , 불일치면 ETag 헤더만 채우고 컨트롤러 실행 (ShallowEtagHeaderFilter 는 ETag 가 있는 응답을 건너뜀)
+ * - 존재하지 않는 id, 숫자가 아닌 id 는 그대로 컨트롤러에 넘겨 기존 404/400 처리를 따름
+ * */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /** 컨트롤러 응답에 적용할 Cache-Control 값 (ConditionalGetResponseAdvice 가 사용) */
+    static final String CACHE_CONTROL_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".CACHE_CONTROL";
+
+    private final EntityVersionProbe versionProbe;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) return true;
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) return true;
+
+        ConditionalGet policy = method.getMethodAnnotation(ConditionalGet.class);
+        if (policy == null) policy = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), ConditionalGet.class);
+        if (policy == null) return true;
+
+        String cacheControl = cacheControl(policy).getHeaderValue();
+        request.setAttribute(CACHE_CONTROL_ATTRIBUTE, cacheControl);
+
+        if (policy.entity() == BaseTimeEntity.class) return true; // 본문 해시 ETag
+
+        Long id = pathId(request, policy.idVariable());
+        if (id == null) return true;
+
+        LocalDateTime updatedAt = versionProbe.updatedAt(policy.entity(), id).orElse(null);
+        if (updatedAt == null) return true;
+
+        String etag = etag(policy.entity(), id, updatedAt);
+        long lastModified = updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli(); // updated_at 은 UTC 기준 저장
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl); // 304 에도 캐시 정책 유지
+            return false;
+        }
+        return true;
+    }
+
+    private static CacheControl cacheControl(ConditionalGet policy) {
+        CacheControl cc = (policy.maxAge() > 0)
+                ? CacheControl.maxAge(policy.maxAge(), TimeUnit.SECONDS).mustRevalidate()
+                : CacheControl.noCache();
+        return policy.privateCache() ? cc.cachePrivate() : cc.cachePublic();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long pathId(HttpServletRequest request, String name) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(name) == null) return null;
+        try {
+            return Long.valueOf(variables.get(name));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 수정 시각은 마이크로초(DATETIME(6)) 단위까지 반영 - 같은 초 안의 연속 수정도 구분
+    private static String etag(Class<?> type, Long id, LocalDateTime updatedAt) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + type.getSimpleName() + "-" + id + "-" + Long.toString(micros, 36) + "\"";
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.k5_iot_springboot.handler;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * === ConditionalGetResponseAdvice ===
+ * : @ConditionalGet 핸들러 응답의 Cache-Control 지정 (ConditionalGetInterceptor 가 요청 속성에 보관한 값)
+ *
+ * - 본문 쓰기 직전에 실행 >> 컨트롤러/예외 처리기가 정한 상태 코드를 확인할 수 있음
+ * - 2xx, 304 응답에만 지정 - 예외 처리기의 404/400 등은 Spring Security 기본값(no-store) 유지
+ * */
+@RestControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) return body;
+
+        Object cacheControl = servletRequest.getServletRequest().getAttribute(ConditionalGetInterceptor.CACHE_CONTROL_ATTRIBUTE);
+        if (cacheControl == null) return body;
+
+        HttpStatus status = HttpStatus.resolve(servletResponse.getServletResponse().getStatus());
+        if (status != null && (status.is2xxSuccessful() || status == HttpStatus.NOT_MODIFIED)) {
+            response.getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl.toString());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.k5_iot_springboot.handler;
+
+import com.example.k5_iot_springboot.common.enums.ErrorCode;
+import com.example.k5_iot_springboot.common.errors.ErrorResponse;
+import com.example.k5_iot_springboot.common.errors.FieldErrorItem;
+import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * === ErrorResponseWriter ===
+ * : 에러 응답 본문(ResponseDto + ErrorResponse) 생성/기록을 한 곳에서 담당
+ *
+ * - 사용 위치: JwtAuthenticationFilter, RateLimitFilter, JsonAuthenticationEntryPoint, JsonAccessDeniedHandler
+ *      , GlobalExceptionHandler (본문 조립만 - 직렬화는 MessageConverter 가 동일한 ObjectMapper 로 처리)
+ * - 필터/핸들러 단계의 거부 응답(401/403/429 등)은 요청마다 문자열 포맷팅 없이 미리 직렬화된 byte[] 를 그대로 기록
+ *      1) ErrorCode 기본 메시지: 기동 시 전부 직렬화
+ *      2) (ErrorCode, 사용자 정의 메시지): 최초 1회 직렬화 후 캐시 (필터의 고정 메시지들)
+ *          - 캐시 크기 상한 초과시 캐시하지 않고 매번 직렬화 (메모리 보호)
+ * - 메시지는 ObjectMapper 가 직렬화하므로 JSON 이스케이프가 보장됨
+ * */
+@Component
+public class ErrorResponseWriter {
+
+    private static final int MAX_CACHED_REASONS = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorCode, byte[]> defaultBodies = new EnumMap<>(ErrorCode.class);
+    private final Map<CacheKey, byte[]> reasonBodies = new ConcurrentHashMap<>();
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorCode code : ErrorCode.values()) {
+            defaultBodies.put(code, serialize(body(code, null, null)));
+        }
+    }
+
+    /** 표준 에러 본문 조립 - reason 이 비어있으면 ErrorCode 의 기본 메시지 사용 */
+    public ResponseDto<Object> body(ErrorCode code, String reason, List<FieldErrorItem> errors) {
+        String finalReason = (reason != null && !reason.isBlank()) ? reason : code.defaultMessage;
+        return ResponseDto.setFailed(finalReason, ErrorResponse.of(code.code, finalReason, errors));
+    }
+
+    /** ErrorCode 기본 메시지로 응답 기록 */
+    public void write(HttpServletResponse response, ErrorCode code) throws IOException {
+        writeBytes(response, code, defaultBodies.get(code));
+    }
+
+    /** 사용자 정의 메시지로 응답 기록 */
+    public void write(HttpServletResponse response, ErrorCode code, String reason) throws IOException {
+        if (reason == null || reason.isBlank() || reason.equals(code.defaultMessage)) {
+            write(response, code);
+            return;
+        }
+        writeBytes(response, code, bytesFor(code, reason));
+    }
+
+    private byte[] bytesFor(ErrorCode code, String reason) {
+        CacheKey key = new CacheKey(code, reason);
+        byte[] cached = reasonBodies.get(key);
+        if (cached != null) return cached;
+
+        byte[] bytes = serialize(body(code, reason, null));
+        if (reasonBodies.size() < MAX_CACHED_REASONS) reasonBodies.putIfAbsent(key, bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(HttpServletResponse response, ErrorCode code, byte[] bytes) throws IOException {
+        response.setStatus(code.status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private byte[] serialize(ResponseDto<Object> body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CacheKey(ErrorCode code, String reason) {}
+}
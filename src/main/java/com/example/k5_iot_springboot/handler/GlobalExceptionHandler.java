@@ -1,12 +1,15 @@
 package com.example.k5_iot_springboot.handler;
 
 import com.example.k5_iot_springboot.common.enums.ErrorCode;
-import com.example.k5_iot_springboot.common.errors.ErrorResponse;
+import com.example.k5_iot_springboot.common.errors.FieldConflictException;
 import com.example.k5_iot_springboot.common.errors.FieldErrorItem;
+import com.example.k5_iot_springboot.common.errors.RateLimitExceededException;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.Authentication;
@@ -19,6 +22,7 @@ import java.nio.file.AccessDeniedException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 // 스프링이 빈으로 등록 - 해당 프로젝트 전역의 @RestController 에서 발생하는 예외를 처리
@@ -33,20 +37,19 @@ import java.util.Objects;
     3. 가독성 향상
  */
 @Slf4j // lombok 어노테이션 - 로깅에 대한 추상 레이어를 제공하는 인터페이스 모음
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final ErrorResponseWriter errorResponseWriter;
+
     // == 공통 응답 생성 유틸 ==
     private ResponseEntity<ResponseDto<Object>> fail(
             ErrorCode code, String reason, List< FieldErrorItem> errors
             // : 실제 응답을 한 곳에서 조립
     ) {
-        // 1) reason: 비워질 경우 ErrorCode 의 기본 메시지 값 사용
-        String finalReason = (reason != null && !reason.isBlank()) ? reason : code.defaultMessage;
-
-        // 2) 클라이언트가 해석할 수 있는 표준 응답 본문 조립(에러코드, 요약 메시지, 오류목록)
-        ErrorResponse body = ErrorResponse.of(code.code, finalReason, errors);
-
+        // 표준 응답 본문 조립(에러코드, 요약 메시지, 오류목록) - 필터/보안 핸들러와 동일한 ErrorResponseWriter 사용
+        // : reason 이 비워질 경우 ErrorCode 의 기본 메시지 값 사용
          return ResponseEntity.status(code.status)
-                 .body(ResponseDto.setFailed(finalReason, body));
+                 .body(errorResponseWriter.body(code, reason, errors));
     }
 
     // == @Valid(@RequestBody) 검증 실패 항목을 표준 형식으로 변환 == //
@@ -105,6 +108,13 @@ public class GlobalExceptionHandler {
         return fail(ErrorCode.NOT_FOUND, null, null);
     }
 
+    // === 409 Conflict: 유니크 필드 중복 (중복된 필드 목록 포함)
+    @ExceptionHandler(FieldConflictException.class)
+    public ResponseEntity<ResponseDto<Object>> handleFieldConflict(FieldConflictException e) {
+        log.warn("Conflict: {}", e.getMessage());
+        return fail(ErrorCode.CONFLICT, e.getMessage(), e.getErrors());
+    }
+
     // ===
     // : 무결성 위반 (제약조건/중복)
     @ExceptionHandler(DataIntegrityViolationException.class) // Unique 키 충돌, FK 위반등
@@ -114,6 +124,23 @@ public class GlobalExceptionHandler {
     }
 
 
+    // === 429 Too Many Requests: 요청 횟수 제한 초과 (Retry-After 헤더 포함)
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ResponseDto<Object>> handleRateLimit(RateLimitExceededException e) {
+        log.warn("Too Many Requests: {}", e.getMessage());
+        ResponseEntity<ResponseDto<Object>> res = fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage(), null);
+        return ResponseEntity.status(res.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(res.getBody());
+    }
+
+    // === 503 Service Unavailable: 전용 스레드 풀(비밀번호 해시 등) 대기열 초과
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ResponseDto<Object>> handleRejected(RejectedExecutionException e) {
+        log.warn("Service Unavailable: {}", e.getMessage());
+        return fail(ErrorCode.SERVICE_UNAVAILABLE, null, null);
+    }
+
     // === 500 Internal Server Error: 그밖의 모든 예외에 대한 최종 안전망
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ResponseDto<Object>> handleException(Exception e) {
@@ -1,30 +1,30 @@
 package com.example.k5_iot_springboot.handler;
 
+import com.example.k5_iot_springboot.common.enums.ErrorCode;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 // AccessDeniedHandler 인터페이스
 // : 인증은 완료되었으나 요청에 대한 권한을 가지고 있지 않은 사용자가 엔드포인트에 접근할 때 발생
 
 // 403 전용 - AccessDeniedHandler
 @Component
+@RequiredArgsConstructor
 public class JsonAccessDeniedHandler implements AccessDeniedHandler {
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void handle(HttpServletRequest request,
                        HttpServletResponse response,
                        AccessDeniedException accessDeniedException) throws IOException, ServletException {
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.getWriter().write("{\"result\": \"fail\", \"message\": \"접근 권한이 없습니다.\"}");
+        // 기동 시 직렬화된 ErrorCode 기본 본문을 그대로 기록
+        errorResponseWriter.write(response, ErrorCode.FORBIDDEN);
     }
 }
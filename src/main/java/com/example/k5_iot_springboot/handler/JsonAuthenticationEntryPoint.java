@@ -1,15 +1,15 @@
 package com.example.k5_iot_springboot.handler;
 
+import com.example.k5_iot_springboot.common.enums.ErrorCode;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 // GlobalExceptionHandler 에서는 Filter 단계의 예외는 처리할 수 없음.
 
@@ -22,15 +22,15 @@ import java.nio.charset.StandardCharsets;
 
 // 401 전용 Entrypoint. 401 예외 처리
 @Component
+@RequiredArgsConstructor
 public class JsonAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.getWriter().write("{\"result\": \"fail\", \"message\": \"인증이 필요합니다.\"}");
+        // 기동 시 직렬화된 ErrorCode 기본 본문을 그대로 기록
+        errorResponseWriter.write(response, ErrorCode.UNAUTHORIZED);
     }
 }
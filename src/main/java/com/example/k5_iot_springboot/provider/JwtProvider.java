@@ -1,5 +1,6 @@
 package com.example.k5_iot_springboot.provider;
 
+import com.example.k5_iot_springboot.common.enums.TokenPrecheckResult;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -36,6 +37,7 @@ import java.util.*;
         3) 토큰 검증/파싱 - parseClaimsInternal 메서드
         4) payload 에 저장되면 데이터 추출(username, roles) - getUsernameFromJwt, getRolesFromJwt 메서드
         5) 만료까지 남은 시간 계산 - getRemainingMillis 메서드
+        6) 서명 검증 전 구조 사전 검사 - precheck 메서드
 
  */
 @Component
@@ -65,6 +67,12 @@ public class JwtProvider {
     // 검증/파싱 담당 파서: 파서를 생성자에서 1회 구성하여 재사용 - 성능/일관성 보장(JJWT의 파서 객체)
     private final JwtParser parser;
 
+    // 사전 검사(precheck)용: 서버가 발급하는 토큰의 header 구간(base64url) -> 서명 구간 길이
+    // : header 는 {"alg":"HS..."} 고정 문자열이므로 발급 토큰에서 그대로 추출하여 허용 목록으로 사용
+    private static final int MIN_TOKEN_LENGTH = 32;
+    private final int maxTokenLength;
+    private final Map<String, Integer> allowedHeaders;
+
     // 생성자: JWTProvider  객체 생성시 비밀키와 만료시간 초기화하는 생성자
     // 환경 변수로 부터 설정 주입 + 파서 준비 시킴
     public JwtProvider(
@@ -74,7 +82,8 @@ public class JwtProvider {
             @Value("${jwt.expiration}") long jwtExpirationMs,    //
             @Value("${jwt.refresh-expiration}") long jwtRefreshExpirationMs,
             @Value("${jwt.email-expiration}") long jwtEmailExpirationMs,
-            @Value("${jwt.clock-skew-seconds:0}")  int clockSkewSeconds  // 기본 0 - 옵션
+            @Value("${jwt.clock-skew-seconds:0}")  int clockSkewSeconds,  // 기본 0 - 옵션
+            @Value("${jwt.max-token-length:4096}") int maxTokenLength
     ) {
        // 키 강도 검증(Base64 로 디코딩후 256 비트 이상 권장)
         byte[] secretBytes = Decoders.BASE64.decode(secret);
@@ -94,6 +103,16 @@ public class JwtProvider {
         this.parser = Jwts.parser()
                 .verifyWith(this.key) // 해당 키로 서명 검증을 수행하는 파서 (이후 파싱마다 반복 설정 필요X)
                 .build();
+
+        // 사전 검사 허용 목록: 액세스/리프레시 토큰(signWith(key) - 키 길이로 알고리즘 선택) + 이메일 토큰(HS256)
+        this.maxTokenLength = maxTokenLength;
+        Map<String, Integer> headers = new HashMap<>();
+        for(String sample : List.of(buildToken("precheck", Set.of(), 1000L), generateEmailJwtToken("precheck@example.com"))) {
+            int first = sample.indexOf('.');
+            int last = sample.lastIndexOf('.');
+            headers.put(sample.substring(0, first), sample.length() - last - 1);
+        }
+        this.allowedHeaders = Map.copyOf(headers);
     }
 
     /**
@@ -131,6 +150,7 @@ public class JwtProvider {
         return Jwts.builder()
                 // 표준 클레임 sub(Subject) 에 사용자 아이디(또는 고유 식별자) 설정 (claim 의 종류가 subject)
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString()) // 표준 클레임 jti(JWT ID) - 토큰 폐기(로그아웃) 시 식별자로 사용
                 .claim(CLAIM_ROLES, roleList) // 커스텀 클레임 키에 권한 목록 저장
                 .setIssuedAt(iat) // 표준 클레임에 현재 시간 설정 (발생 시간)
                 .setExpiration(exp) // 현재 시간에 만료 시간을 더한 설정(만료 시간)
@@ -144,6 +164,7 @@ public class JwtProvider {
     public String generateEmailJwtToken(String email) {
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti - 인증 링크 1회 사용 처리용 식별자
                 .claim("email", email)
                // .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setIssuedAt(new Date())
@@ -204,9 +225,69 @@ public class JwtProvider {
 
 }
 
+    /**
+     * 서명 검증 전 구조 사전 검사 (예외/할당 없이 문자열 1회 순회)
+     * - 길이 범위, 문자 집합(base64url), 3개 구간, header 허용 목록, 서명 길이 확인
+     * >> 형식이 잘못된 토큰은 base64 디코딩/JSON 파싱/HMAC 계산 없이 거부
+     * */
+    public TokenPrecheckResult precheck(String tokenWithoutBearer) {
+        if(tokenWithoutBearer == null || tokenWithoutBearer.length() < MIN_TOKEN_LENGTH) return TokenPrecheckResult.TOO_SHORT;
+        int length = tokenWithoutBearer.length();
+        if(length > maxTokenLength) return TokenPrecheckResult.TOO_LONG;
+
+        int firstDot = -1, secondDot = -1, dots = 0;
+        for(int i = 0; i < length; i++) {
+            char c = tokenWithoutBearer.charAt(i);
+            if(c == '.') {
+                if(++dots == 1) firstDot = i; else if(dots == 2) secondDot = i;
+            } else if(!isBase64UrlChar(c)) {
+                return TokenPrecheckResult.ILLEGAL_CHARACTER;
+            }
+        }
+        if(dots != 2 || firstDot == 0 || secondDot == firstDot + 1 || secondDot == length - 1) {
+            return TokenPrecheckResult.MALFORMED_SEGMENTS;
+        }
+
+        for(Map.Entry<String, Integer> allowed : allowedHeaders.entrySet()) {
+            String header = allowed.getKey();
+            if(header.length() == firstDot && tokenWithoutBearer.regionMatches(0, header, 0, firstDot)) {
+                return (length - secondDot - 1 == allowed.getValue())
+                        ? TokenPrecheckResult.VALID
+                        : TokenPrecheckResult.SIGNATURE_LENGTH;
+            }
+        }
+        return TokenPrecheckResult.HEADER_NOT_ALLOWED;
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    /**
+     * 사전 검사 + 서명/만료 검증 후 Claims 반환, 유효하지 않으면 null
+     * >> isValidToken + getClaims 를 한 번의 파싱으로 처리
+     * */
+    public Claims getValidClaimsOrNull(String tokenWithoutBearer) {
+        return getValidClaimsOrNull(tokenWithoutBearer, precheck(tokenWithoutBearer));
+    }
+
+    /**
+     * 호출측에서 이미 수행한 사전 검사 결과를 받아 서명/만료만 검증 (필터에서 사용 - 구조 검사 1회)
+     * @param precheck 같은 토큰에 대한 precheck() 결과
+     * */
+    public Claims getValidClaimsOrNull(String tokenWithoutBearer, TokenPrecheckResult precheck) {
+        if(precheck != TokenPrecheckResult.VALID) return null;
+        try {
+            return parseClaimsInternal(tokenWithoutBearer, true);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /** 토큰 유효성 검사(서명/만료 포함) / clock-skew 허용 적용
      * >> 컨트롤러/필터에서 사용가능한 토큰인지 확인 */
     public boolean isValidToken(String tokenWithoutBearer) {
+        if(precheck(tokenWithoutBearer) != TokenPrecheckResult.VALID) return false; // 구조가 잘못된 토큰은 서명 검증 생략
         try {
             // 검증 : 서명 불일치, 변조, 포맷 이상, 만료(허용 오차 초과) 등 모든 예외는 catch 로 전달 - false 반환
             parseClaimsInternal(tokenWithoutBearer, true);
@@ -257,6 +338,11 @@ public class JwtProvider {
         return claims.get("email", String.class); // email 이라는 claim 이 있으면 String 으로 반환한다
     }
 
+    /** 만료 직후 허용 오차(ms) - 폐기 목록은 exp + 오차 까지 유지해야 함 */
+    public long getClockSkewMillis() {
+        return clockSkewSeconds * 1000L;
+    }
+
     /** 남은 만료 시간(ms)이 음수면 이미 만료*/
     public long getRemainingMillis(String tokenWithoutBearer) {
         Claims c = parseClaimsInternal(tokenWithoutBearer, true);
@@ -0,0 +1,169 @@
+package com.example.k5_iot_springboot.provider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+    ==== MailTemplateProvider ====
+    : 메일 템플릿(resources/templates/mail/*.html)을 기동 시 1회 읽어 미리 컴파일하고, 발송 시 값만 채워 렌더링
+
+    # 템플릿 규칙 #
+    - 파일명: {이름}.html (기본) / {이름}_{언어}.html (로케일별, 예: email-verification_en.html)
+    - 제목: <title>...</title> 내용 (제목에도 변수 사용 가능)
+        - <title> 이 없는 파일은 조각(fragment) 템플릿: 목록 항목 등 다른 템플릿에 {{&name}} 으로 끼워 넣을 HTML (제목 없음)
+    - {{name}}  : HTML 이스케이프하여 삽입
+    - {{&name}} : 그대로 삽입 (신뢰할 수 있는 값 - URL 등)
+    - baseUrl   : app.base-url 설정값이 모든 템플릿에 기본 제공
+
+    # 성능 #
+    - 컴파일 결과는 [고정 문자열, 변수, 고정 문자열, ...] 구간 배열 >> 렌더링시 파싱/정규식/format 없음
+    - 렌더링 버퍼(StringBuilder)는 스레드별로 재사용
+ */
+@Slf4j
+@Component
+public class MailTemplateProvider {
+
+    private static final String TEMPLATE_LOCATION = "classpath*:templates/mail/*.html";
+    private static final String BASE_URL = "baseUrl";
+    private static final int MAX_REUSED_BUFFER = 64 * 1024; // 이보다 커진 버퍼는 재사용하지 않음 (메모리 보호)
+
+    private final String baseUrl;
+
+    // "이름" 또는 "이름_언어" -> 컴파일된 템플릿
+    private final Map<String, CompiledTemplate> templates;
+
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(2048));
+
+    public MailTemplateProvider(@Value("${app.base-url:http://localhost:8080}") String baseUrl) throws IOException {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+
+        Map<String, CompiledTemplate> loaded = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION)) {
+            String filename = resource.getFilename();
+            if (filename == null) continue;
+
+            String key = filename.substring(0, filename.length() - ".html".length());
+            String source = resource.getContentAsString(StandardCharsets.UTF_8);
+            loaded.put(key, CompiledTemplate.compile(key, source));
+        }
+        this.templates = Map.copyOf(loaded);
+        log.info("Mail templates loaded: {}", templates.keySet());
+    }
+
+    /**
+     * 템플릿 렌더링
+     * @param name 템플릿 이름 (확장자/로케일 제외)
+     * @param locale 수신자 로케일 - 해당 언어 템플릿이 없으면 기본 템플릿 사용
+     * @param variables 치환 값 (baseUrl 은 자동 제공)
+     * */
+    public RenderedMail render(String name, Locale locale, Map<String, String> variables) {
+        CompiledTemplate template = resolve(name, locale);
+        return new RenderedMail(
+                renderSegments(template.subject(), variables),
+                renderSegments(template.body(), variables)
+        );
+    }
+
+    private CompiledTemplate resolve(String name, Locale locale) {
+        if (locale != null && !locale.getLanguage().isEmpty()) {
+            CompiledTemplate localized = templates.get(name + "_" + locale.getLanguage());
+            if (localized != null) return localized;
+        }
+        CompiledTemplate template = templates.get(name);
+        if (template == null) throw new IllegalArgumentException("메일 템플릿이 존재하지 않습니다: " + name);
+        return template;
+    }
+
+    private String renderSegments(Segment[] segments, Map<String, String> variables) {
+        StringBuilder sb = buffers.get();
+        sb.setLength(0);
+        try {
+            for (Segment segment : segments) {
+                if (segment.variable() == null) {
+                    sb.append(segment.text());
+                    continue;
+                }
+                String value = BASE_URL.equals(segment.variable()) ? baseUrl : variables.get(segment.variable());
+                if (value == null) throw new IllegalArgumentException("메일 템플릿 변수가 없습니다: " + segment.variable());
+                if (segment.escape()) appendEscaped(sb, value); else sb.append(value);
+            }
+            return sb.toString();
+        } finally {
+            if (sb.capacity() > MAX_REUSED_BUFFER) buffers.remove();
+        }
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+
+    /** 조각 템플릿 렌더링 - 본문 HTML 만 반환 */
+    public String renderFragment(String name, Locale locale, Map<String, String> variables) {
+        return renderSegments(resolve(name, locale).body(), variables);
+    }
+
+    /** 렌더링 결과 (제목, HTML 본문) */
+    public record RenderedMail(String subject, String body) {}
+
+    /** 고정 문자열(variable == null) 또는 변수 구간 */
+    private record Segment(String text, String variable, boolean escape) {}
+
+    private record CompiledTemplate(Segment[] subject, Segment[] body) {
+
+        static CompiledTemplate compile(String key, String source) {
+            int titleStart = source.indexOf("<title>");
+            int titleEnd = source.indexOf("</title>");
+            if (titleStart < 0 && titleEnd < 0) {
+                return new CompiledTemplate(new Segment[0], parse(key, source)); // 조각 템플릿
+            }
+            if (titleStart < 0 || titleEnd < titleStart) {
+                throw new IllegalStateException("메일 템플릿의 <title> 형식이 올바르지 않습니다: " + key);
+            }
+            String subject = source.substring(titleStart + "<title>".length(), titleEnd).trim();
+            return new CompiledTemplate(parse(key, subject), parse(key, source));
+        }
+
+        private static Segment[] parse(String key, String source) {
+            List<Segment> segments = new ArrayList<>();
+            int pos = 0;
+            while (pos < source.length()) {
+                int open = source.indexOf("{{", pos);
+                if (open < 0) break;
+                int close = source.indexOf("}}", open + 2);
+                if (close < 0) throw new IllegalStateException("닫히지 않은 변수 표기({{): " + key);
+
+                if (open > pos) segments.add(new Segment(source.substring(pos, open), null, false));
+
+                String name = source.substring(open + 2, close).trim();
+                boolean raw = name.startsWith("&");
+                if (raw) name = name.substring(1).trim();
+                segments.add(new Segment(null, name, !raw));
+
+                pos = close + 2;
+            }
+            if (pos < source.length()) segments.add(new Segment(source.substring(pos), null, false));
+            return segments.toArray(Segment[]::new);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.k5_iot_springboot.repository;
 
 import com.example.k5_iot_springboot.entity.A_Test;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 // === Repository === //
@@ -13,7 +12,7 @@ import org.springframework.stereotype.Repository;
 //      Repository 는 Entity 테이블에 CRUD 작업을 수행
 
 @Repository
-public interface A_TestRepository extends JpaRepository<A_Test, Long> {
-    // 기본 CRUD 메서드는 내장되어있음
+public interface A_TestRepository extends KeysetRepository<A_Test, Long> {
+    // 기본 CRUD 메서드는 내장되어있음 (KeysetRepository 는 JpaRepository 를 상속)
 
 }
@@ -1,13 +1,22 @@
 package com.example.k5_iot_springboot.repository;
 
 import com.example.k5_iot_springboot.entity.B_Student;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface B_StudentRepository extends JpaRepository<B_Student, Long> {
-    // 이름에 특정 문자열이 포함된 학생 검색(대소문자구분X)
-    List<B_Student> findByNameContainingIgnoreCase(String name);
+public interface B_StudentRepository extends KeysetRepository<B_Student, Long> {
+    // 이름에 특정 문자열이 포함된 학생 검색(대소문자구분X) - 최신순 keyset 페이지
+    List<B_Student> findByNameContainingIgnoreCaseOrderByIdDesc(String name, Limit limit);
+
+    List<B_Student> findByNameContainingIgnoreCaseAndIdLessThanOrderByIdDesc(String name, Long id, Limit limit);
+
+    /** afterId 보다 오래된 검색 결과 limit 건 - afterId 가 null 이면 최신부터 */
+    default List<B_Student> findByNameKeysetPage(String name, Long afterId, int limit) {
+        return (afterId == null)
+                ? findByNameContainingIgnoreCaseOrderByIdDesc(name, Limit.of(limit))
+                : findByNameContainingIgnoreCaseAndIdLessThanOrderByIdDesc(name, afterId, Limit.of(limit));
+    }
 }
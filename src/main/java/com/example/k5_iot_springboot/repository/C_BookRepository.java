@@ -2,18 +2,35 @@ package com.example.k5_iot_springboot.repository;
 
 import com.example.k5_iot_springboot.entity.C_Book;
 import com.example.k5_iot_springboot.entity.C_Category;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface C_BookRepository extends JpaRepository<C_Book, Long> {
+public interface C_BookRepository extends KeysetRepository<C_Book, Long> {
 
     // 사용자 쿼리 메서드 : 인터페이스의 추상 메서드 구조를 가짐
-    List<C_Book> findByTitleContaining(String keyword);
-    // >> SQL 문 변환 ) SELECT * FROM books WHERE title LIKE %keyword%;
+    // : 검색/필터 결과도 최신순 keyset 페이지 (Limit 건만 조회)
+    List<C_Book> findByTitleContainingOrderByIdDesc(String keyword, Limit limit);
+    // >> SQL 문 변환 ) SELECT * FROM books WHERE title LIKE %keyword% ORDER BY id DESC LIMIT ?;
 
-    List<C_Book> findByCategory(C_Category category);
-    // >> SQL 문 변환 ) SELECT * FROM books WHERE category=category;
+    List<C_Book> findByTitleContainingAndIdLessThanOrderByIdDesc(String keyword, Long id, Limit limit);
+
+    List<C_Book> findByCategoryOrderByIdDesc(C_Category category, Limit limit);
+    // >> SQL 문 변환 ) SELECT * FROM books WHERE category=category ORDER BY id DESC LIMIT ?;
+
+    List<C_Book> findByCategoryAndIdLessThanOrderByIdDesc(C_Category category, Long id, Limit limit);
+
+    default List<C_Book> findByTitleKeysetPage(String keyword, Long afterId, int limit) {
+        return (afterId == null)
+                ? findByTitleContainingOrderByIdDesc(keyword, Limit.of(limit))
+                : findByTitleContainingAndIdLessThanOrderByIdDesc(keyword, afterId, Limit.of(limit));
+    }
+
+    default List<C_Book> findByCategoryKeysetPage(C_Category category, Long afterId, int limit) {
+        return (afterId == null)
+                ? findByCategoryOrderByIdDesc(category, Limit.of(limit))
+                : findByCategoryAndIdLessThanOrderByIdDesc(category, afterId, Limit.of(limit));
+    }
 }
@@ -1,9 +1,117 @@
 package com.example.k5_iot_springboot.repository;
 
+import com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto;
 import com.example.k5_iot_springboot.entity.D_Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface D_CommentRepository extends JpaRepository<D_Comment, Long> {
+
+    // 검색 색인용 - 게시글 묶음의 댓글 내용만 조회 (post_id FK 인덱스 사용)
+    interface CommentContentProjection {
+        Long getPostId();
+        String getContent();
+    }
+
+    @Query(value = """
+        SELECT
+            c.post_id AS postId,
+            c.content AS content
+        FROM
+            comments c
+        WHERE
+            c.post_id IN (:postIds)
+""", nativeQuery = true)
+    List<CommentContentProjection> findContentsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 검색 결과 확인용 - 후보 게시글 중 키워드를 포함한 댓글이 있는 게시글 id
+    // : 색인(gram 교집합)으로 좁힌 후보에만 LIKE 적용 (post_id FK 인덱스 범위) >> 기존 LIKE 검색과 같은 일치 기준
+    @Query(value = """
+        SELECT DISTINCT
+            c.post_id
+        FROM
+            comments c
+        WHERE
+            c.post_id IN (:postIds)
+            AND c.content LIKE concat('%', :keyword, '%')
+""", nativeQuery = true)
+    List<Long> findPostIdsWithCommentContaining(@Param("postIds") Collection<Long> postIds,
+                                                @Param("keyword") String keyword);
+
+    // 검색어에서 gram 을 만들 수 없는 경우(기호만 있는 검색어 등) - 색인 없이 전체 LIKE
+    @Query(value = """
+        SELECT DISTINCT
+            c.post_id
+        FROM
+            comments c
+        WHERE
+            c.content LIKE concat('%', :keyword, '%')
+""", nativeQuery = true)
+    List<Long> findPostIdsByCommentKeyword(@Param("keyword") String keyword);
+
+    // 게시글의 댓글 한 페이지 (keyset: id > :cursorId, 오래된 댓글부터)
+    // : JPQL 생성자 표현식으로 DTO 직접 조회 - 엔티티/영속성 컨텍스트 적재 없음
+    // : c.post.id 는 FK 컬럼 그대로 사용 (posts 조인 없음)
+    //      , comments(post_id) 보조 인덱스는 PK(id) 를 포함 >> (post_id, id) 범위 스캔 후 LIMIT 건에서 멈춤
+    @Query("""
+        SELECT new com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto(
+            c.id, c.post.id, c.content, c.commenter
+        )
+        FROM D_Comment c
+        WHERE c.post.id = :postId
+            AND c.id > :cursorId
+        ORDER BY c.id ASC
+""")
+    List<CommentResponseDto> findSliceByPostId(@Param("postId") Long postId,
+                                               @Param("cursorId") long cursorId,
+                                               Limit limit);
+
+    // 수정/삭제 전 댓글 행 조회 + 행 잠금 (FOR UPDATE)
+    // : 검색 색인에서 뺄 이전 내용을 얻기 위함 - 잠금으로 동시 수정 사이의 이전 내용이 어긋나지 않음
+    // : 소속 게시글 검사를 WHERE 에 포함 (empty: 없음 또는 다른 게시글의 댓글)
+    interface CommentRowProjection {
+        Long getId();
+        Long getPostId();
+        String getContent();
+        String getCommenter();
+    }
+
+    @Query(value = """
+        SELECT
+            c.id AS id,
+            c.post_id AS postId,
+            c.content AS content,
+            c.commenter AS commenter
+        FROM
+            comments c
+        WHERE
+            c.id = :commentId
+            AND c.post_id = :postId
+        FOR UPDATE
+""", nativeQuery = true)
+    Optional<CommentRowProjection> findRowForUpdate(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    // 댓글 내용 수정 - 소속 게시글 검사를 WHERE 에 포함 (0 반환: 없음 또는 다른 게시글의 댓글)
+    @Modifying
+    @Query("UPDATE D_Comment c SET c.content = :content WHERE c.id = :commentId AND c.post.id = :postId")
+    int updateContent(@Param("postId") Long postId, @Param("commentId") Long commentId, @Param("content") String content);
+
+    // 댓글 삭제 - 소속 게시글 검사를 WHERE 에 포함
+    @Modifying
+    @Query("DELETE FROM D_Comment c WHERE c.id = :commentId AND c.post.id = :postId")
+    int deleteByIdAndPostId(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    // 게시글 삭제시 댓글 일괄 삭제 - DELETE 1문 (post_id 인덱스 범위, 댓글 엔티티 적재 X)
+    @Modifying
+    @Query("DELETE FROM D_Comment c WHERE c.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
 }
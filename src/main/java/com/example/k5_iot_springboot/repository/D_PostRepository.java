@@ -4,10 +4,13 @@ import com.example.k5_iot_springboot.dto.D_Post.response.PostWithCommentCountRes
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.D_Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -54,13 +57,54 @@ public interface D_PostRepository extends JpaRepository<D_Post, Long> {
     Optional<D_Post> findByIdWithComments(@Param("id") Long id);
 
     // 상황2
-    // 전체 조회(댓글 제외)
-    @Query("""
-        select p
-        from D_Post p
-        order by p.id desc
-""")
-    List<D_Post> findAllOrderByIdDesc();
+    // 전체 조회(댓글 제외) - 커서(keyset) 기반 피드
+    // : 엔티티 전체(@Lob content 포함)를 읽지 않고 목록에 필요한 컬럼 + 내용 앞부분만 조회
+    // : WHERE id < :cursorId ORDER BY id DESC LIMIT n >> PK 인덱스 범위 스캔, 페이지 위치와 무관하게 n+1 행만 읽음
+    public interface PostFeedProjection {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+        String getContentPrefix(); // content 앞부분 (요약 길이 + 1자 - 잘림 여부 판단용)
+    }
+
+    @Query(value = """
+        SELECT
+            p.id AS id,
+            p.title AS title,
+            p.author AS author,
+            SUBSTRING(p.content, 1, :prefixLength) AS contentPrefix
+        FROM
+            posts p
+        WHERE
+            p.id < :cursorId
+        ORDER BY
+            p.id DESC
+        LIMIT :limit
+""", nativeQuery = true)
+    List<PostFeedProjection> findFeed(@Param("cursorId") long cursorId,
+                                      @Param("prefixLength") int prefixLength,
+                                      @Param("limit") int limit);
+
+    // 특정 작성자의 피드 - idx_posts_author_id(author, id) 역순 범위 스캔 (작성자 게시글 전체/LOB 를 읽지 않음)
+    @Query(value = """
+        SELECT
+            p.id AS id,
+            p.title AS title,
+            p.author AS author,
+            SUBSTRING(p.content, 1, :prefixLength) AS contentPrefix
+        FROM
+            posts p
+        WHERE
+            p.author = :author
+            AND p.id < :cursorId
+        ORDER BY
+            p.id DESC
+        LIMIT :limit
+""", nativeQuery = true)
+    List<PostFeedProjection> findAuthorFeed(@Param("author") String author,
+                                            @Param("cursorId") long cursorId,
+                                            @Param("prefixLength") int prefixLength,
+                                            @Param("limit") int limit);
 
     // ================= 필터링 & 검색 ========================= //
     // 1) 쿼리 메서드 사용 (Query Method)
@@ -166,20 +210,18 @@ public interface D_PostRepository extends JpaRepository<D_Post, Long> {
         Long getCommentCount(); // count(c.id)
     }
 
+    // posts.comment_count (비정규화 컬럼) + idx_posts_comment_count(comment_count, id) 인덱스 역순 스캔
+    //  >> comments 조인/GROUP BY 없이 상위 limit 건만 읽음
     @Query(value = """
         SELECT 
             p.id as postId,
             p.title as title,
             p.author as author,
-            count(c.id) as commentCount
+            p.comment_count as commentCount
         FROM
             posts p 
-            LEFT JOIN comments c
-            ON c.post_id = p.id
-        GROUP BY
-            p.id, p.title, p.author
         ORDER BY 
-            commentCount DESC, p.id DESC
+            p.comment_count DESC, p.id DESC
         LIMIT :limit
 """, nativeQuery = true)
 
@@ -210,6 +252,43 @@ public interface D_PostRepository extends JpaRepository<D_Post, Long> {
 """, nativeQuery = true)
     List<PostListProjection> findByCommentKeyword(@Param("keyword") String keyword);
 
+    // 검색 색인용 - 목록 컬럼(id, title, author)만 PK 순서로 묶음 조회 (keyset: id > :afterId)
+    @Query(value = """
+        SELECT
+            p.id AS id,
+            p.title AS title,
+            p.author AS author
+        FROM
+            posts p
+        WHERE
+            p.id > :afterId
+        ORDER BY
+            p.id
+        LIMIT :limit
+""", nativeQuery = true)
+    List<PostListProjection> findIndexRows(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT
+            p.id AS id,
+            p.title AS title,
+            p.author AS author
+        FROM
+            posts p
+        WHERE
+            p.id = :id
+""", nativeQuery = true)
+    Optional<PostListProjection> findIndexRowById(@Param("id") Long id);
+
+    // 검색 결과 본문 - 결과 페이지의 게시글 내용만 PK IN 조회 1회
+    interface PostContentProjection {
+        Long getId();
+        String getContent();
+    }
+
+    @Query("SELECT p.id AS id, p.content AS content FROM D_Post p WHERE p.id IN :ids")
+    List<PostContentProjection> findContentsByIdIn(@Param("ids") Collection<Long> ids);
+
     // 10) 특정 작성자의 게시글 중, 댓글 수가 minCount 이상인 게시글 조회
 //    @Query(value = """
 //    SELECT
@@ -234,30 +313,102 @@ public interface D_PostRepository extends JpaRepository<D_Post, Long> {
 //            @Param("minCount") int minCount
 //    );
 
+    // idx_posts_author_comment_count(author, comment_count, id) 범위 스캔 (집계 없음)
+    // : (comment_count DESC, id DESC) keyset 페이지 - 첫 페이지 / 기준 행 (afterCount, afterId) 다음 페이지
     @Query(value = """
     SELECT 
-        p.id        AS postId,
-        p.title     AS title,
-        p.author    AS author,
-        COUNT(c.id) AS commentCount
+        p.id            AS postId,
+        p.title         AS title,
+        p.author        AS author,
+        p.comment_count AS commentCount
     FROM 
         posts p
-        LEFT JOIN comments c 
-                ON c.post_id = p.id
     WHERE 
         p.author = :author
-    GROUP BY 
-        p.id, p.title, p.author
-    HAVING 
-        COUNT(c.id) >= :minCount
+        AND p.comment_count >= :minCount
     ORDER BY 
-        commentCount DESC, p.id DESC
+        p.comment_count DESC, p.id DESC
+    LIMIT :limit
     """, nativeQuery = true)
     List<PostWithCommentCountProjection> findAuthorPostsWithMinCount(
             @Param("author") String author,
-            @Param("minCount") int minCount
+            @Param("minCount") int minCount,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+    SELECT 
+        p.id            AS postId,
+        p.title         AS title,
+        p.author        AS author,
+        p.comment_count AS commentCount
+    FROM 
+        posts p
+    WHERE 
+        p.author = :author
+        AND p.comment_count >= :minCount
+        AND (p.comment_count < :afterCount OR (p.comment_count = :afterCount AND p.id < :afterId))
+    ORDER BY 
+        p.comment_count DESC, p.id DESC
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<PostWithCommentCountProjection> findAuthorPostsWithMinCountAfter(
+            @Param("author") String author,
+            @Param("minCount") int minCount,
+            @Param("afterCount") long afterCount,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
     );
 
+    // 인기글 캐시(TrendingPostsCache) 갱신용 - 게시글 1건의 목록 컬럼 + 댓글 수 (PK 조회)
+    @Query(value = """
+        SELECT
+            p.id AS postId,
+            p.title AS title,
+            p.author AS author,
+            p.comment_count AS commentCount
+        FROM
+            posts p
+        WHERE
+            p.id = :id
+""", nativeQuery = true)
+    Optional<PostWithCommentCountProjection> findCommentCountRowById(@Param("id") Long id);
+
+    // 게시글 삭제 - PK 로 DELETE 1문 (댓글 컬렉션 적재/건별 삭제 X, 댓글은 먼저 일괄 삭제)
+    @Modifying
+    @Query("DELETE FROM D_Post p WHERE p.id = :id")
+    int deletePostById(@Param("id") Long id);
+
+    // 주어진 id 중 실제 존재하는 게시글 id (일괄 등록시 묶음 검증 - PK IN 조회 1회)
+    @Query("SELECT p.id FROM D_Post p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // === 댓글 수 (posts.comment_count) 유지 ===
+    // 댓글 생성/삭제시 상대값 UPDATE - 행 잠금 안에서 원자적으로 증감 (읽고-쓰기 경쟁 없음)
+    @Modifying
+    @Query("UPDATE D_Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 정합성 보정: id 범위 단위로 실제 댓글 수와 다른 행만 갱신 (배치마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+            LEFT JOIN (
+                SELECT c.post_id, COUNT(*) AS cnt
+                FROM comments c
+                WHERE c.post_id BETWEEN :fromId AND :toId
+                GROUP BY c.post_id
+            ) c ON c.post_id = p.id
+        SET p.comment_count = COALESCE(c.cnt, 0)
+        WHERE p.id BETWEEN :fromId AND :toId
+            AND p.comment_count <> COALESCE(c.cnt, 0)
+""", nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM posts", nativeQuery = true)
+    long findMaxId();
+
 
 
 
@@ -0,0 +1,21 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.common.enums.BoardSortKey;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface F_BoardRepositoryCustom {
+
+    /**
+     * 목록 요약 조회 (content 제외 - 정렬 기준별 커버링 인덱스만으로 처리)
+     * @param after seek 기준 행 - 정렬 순서상 이 행 다음부터 조회 (null 이면 처음부터)
+     * @param skip 기준 행 이후 건너뛸 행 수
+     * @param limit 최대 조회 행 수
+     * */
+    List<SummaryRow> findSummaries(BoardSortKey key, Sort.Direction direction, SummaryRow after, int skip, int limit);
+
+    /** 목록 요약 행 - sortValue: 정렬 기준 컬럼 값 (seek 기준점으로 사용) */
+    record SummaryRow(Long id, String title, LocalDateTime createdAt, Object sortValue) {}
+}
@@ -0,0 +1,50 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.common.enums.BoardSortKey;
+import com.example.k5_iot_springboot.common.pagination.KeysetQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    ==== F_BoardRepository 사용자 정의 구현 ====
+    - 정렬 기준이 화이트리스트(BoardSortKey)로 고정 >> JPQL 은 enum 값으로만 조립 (외부 문자열 삽입 없음)
+    - 정렬/seek 조건은 KeysetQuery 가 생성: (기준 컬럼, id) 같은 방향
+        >> 기준 행까지의 OFFSET 스캔 없이 인덱스 범위의 해당 위치부터 읽음
+ */
+public class F_BoardRepositoryImpl implements F_BoardRepositoryCustom {
+
+    private static final String ALIAS = "b";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<SummaryRow> findSummaries(BoardSortKey key, Sort.Direction direction, SummaryRow after, int skip, int limit) {
+        String property = key.getProperty();
+
+        StringBuilder jpql = new StringBuilder("SELECT b.id, b.title, b.createdAt, b.").append(property).append(" FROM F_Board b");
+        if (after != null) jpql.append(" WHERE ").append(KeysetQuery.seekPredicate(ALIAS, property, direction));
+        jpql.append(KeysetQuery.orderBy(ALIAS, property, direction));
+
+        TypedQuery<Object[]> query = em.createQuery(jpql.toString(), Object[].class);
+        if (after != null) {
+            query.setParameter(KeysetQuery.AFTER_ID, after.id());
+            if (KeysetQuery.bindsKey(property)) query.setParameter(KeysetQuery.AFTER_KEY, after.sortValue());
+        }
+        query.setFirstResult(skip);
+        query.setMaxResults(limit);
+
+        List<Object[]> rows = query.getResultList();
+        List<SummaryRow> result = new ArrayList<>(rows.size());
+        for (Object[] r : rows) {
+            result.add(new SummaryRow((Long) r[0], (String) r[1], (LocalDateTime) r[2], r[3]));
+        }
+        return result;
+    }
+}
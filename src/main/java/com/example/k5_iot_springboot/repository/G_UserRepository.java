@@ -7,10 +7,13 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -39,5 +42,42 @@ public interface G_UserRepository extends JpaRepository<G_User, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
 
+    // 회원가입 중복 검사 - 세 개의 유니크 필드를 한 번의 조회로 확인 (인터페이스 프로젝션)
+    // : 각 값이 1 이면 이미 사용 중, 0 이면 사용 가능
+    interface SignUpConflictProjection {
+        Long getLoginIdTaken();
+        Long getEmailTaken();
+        Long getNicknameTaken();
+    }
+
+    // OR 조건의 각 컬럼이 유니크 인덱스(uk_users_*) >> index merge 로 최대 3건만 읽음
+    @Query(value = """
+        SELECT
+            COALESCE(MAX(u.login_id = :loginId), 0) AS loginIdTaken,
+            COALESCE(MAX(u.email = :email), 0) AS emailTaken,
+            COALESCE(MAX(u.nickname = :nickname), 0) AS nicknameTaken
+        FROM users u
+        WHERE u.login_id = :loginId
+            OR u.email = :email
+            OR u.nickname = :nickname
+""", nativeQuery = true)
+    SignUpConflictProjection findSignUpConflicts(@Param("loginId") String loginId,
+                                                 @Param("email") String email,
+                                                 @Param("nickname") String nickname);
+
     Optional<G_User> findByEmail(@NotBlank @Email String email);
+
+    // 이메일 인증 완료 처리 - 엔티티 조회 없이 UPDATE 1회 (이미 인증된 경우 0 반환)
+    @Modifying
+    @Query("UPDATE G_User u SET u.emailVerified = true WHERE u.email = :email AND u.emailVerified = false")
+    int markEmailVerified(@Param("email") String email);
+
+    // 알림 메일 수신자 조회 - 필요한 컬럼만 (인터페이스 프로젝션, PK IN 조회 1회)
+    interface MailRecipientProjection {
+        Long getId();
+        String getEmail();
+        String getNickname();
+    }
+
+    List<MailRecipientProjection> findByIdIn(Collection<Long> ids);
 }
@@ -1,9 +1,51 @@
 package com.example.k5_iot_springboot.repository;
 
+import com.example.k5_iot_springboot.dto.H_Article.response.ArticleListResponse;
 import com.example.k5_iot_springboot.entity.H_Article;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface H_ArticleRepository extends JpaRepository<H_Article, Long> {
+public interface H_ArticleRepository extends KeysetRepository<H_Article, Long> {
+
+    // 상세 조회: 작성자를 함께 조회 (fetch join) - 작성자 지연 로딩 추가 쿼리 없음
+    @EntityGraph(attributePaths = "author")
+    Optional<H_Article> findWithAuthorById(Long id);
+
+    // 게시글 목록 (최신순 keyset)
+    // : 작성자(users)를 조인하여 DTO 로 직접 조회 - 쿼리 1회 (게시글마다 작성자를 지연 로딩하는 N+1 없음)
+    // : content(LONGTEXT) 는 조회하지 않음
+    @Query("""
+        SELECT new com.example.k5_iot_springboot.dto.H_Article.response.ArticleListResponse(
+            a.id, a.title, u.loginId, u.nickname, a.createdAt
+        )
+        FROM H_Article a
+            JOIN a.author u
+        ORDER BY a.id DESC
+""")
+    List<ArticleListResponse> findListPage(Limit limit);
+
+    @Query("""
+        SELECT new com.example.k5_iot_springboot.dto.H_Article.response.ArticleListResponse(
+            a.id, a.title, u.loginId, u.nickname, a.createdAt
+        )
+        FROM H_Article a
+            JOIN a.author u
+        WHERE a.id < :cursorId
+        ORDER BY a.id DESC
+""")
+    List<ArticleListResponse> findListPageBefore(@Param("cursorId") Long cursorId, Limit limit);
+
+    /** afterId 보다 오래된 게시글 목록 limit 건 - afterId 가 null 이면 최신부터 (KeysetRepository.findKeysetPage 와 동일 규칙) */
+    default List<ArticleListResponse> findListKeysetPage(Long afterId, int limit) {
+        return (afterId == null)
+                ? findListPage(Limit.of(limit))
+                : findListPageBefore(afterId, Limit.of(limit));
+    }
 }
@@ -8,6 +8,11 @@ import java.util.List;
 
 public interface I_OrderRepositoryCustom {
 
-    /** 유저아이디/상태/기간 조건에 따른 주문 목록 조회 */
-    List<I_Order> searchOrders(Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to);
+    /**
+     * 유저아이디/상태/기간 조건에 따른 주문 목록 조회 (생성일 DESC, id DESC keyset 페이지)
+     * @param afterCreatedAt, afterId 이전 페이지 마지막 주문 (null 이면 처음부터)
+     * @param limit 최대 조회 건수
+     * */
+    List<I_Order> searchOrders(Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to,
+                               LocalDateTime afterCreatedAt, Long afterId, int limit);
 }
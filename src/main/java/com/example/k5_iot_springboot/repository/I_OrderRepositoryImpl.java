@@ -1,13 +1,16 @@
 package com.example.k5_iot_springboot.repository;
 
 import com.example.k5_iot_springboot.common.enums.OrderStatus;
+import com.example.k5_iot_springboot.common.pagination.KeysetQuery;
 import com.example.k5_iot_springboot.entity.I_Order;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,13 +20,17 @@ public class I_OrderRepositoryImpl implements I_OrderRepositoryCustom {
     @PersistenceContext
     private EntityManager em;
 
+    private static final String ALIAS = "o";
+    private static final String CREATED_AT = "createdAt";
+
     @Override
-    public List<I_Order> searchOrders(Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to) {
+    public List<I_Order> searchOrders(Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to,
+                                      LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        // 1) 조건 + seek 으로 페이지의 주문 id 만 조회 (LIMIT 적용)
+        //      cf) 컬렉션 fetch join 과 setMaxResults 를 함께 쓰면 전체를 읽은 뒤 메모리에서 자름 (HHH90003004)
         StringBuilder jpql = new StringBuilder(
-                "SELECT DISTINCT o " +
+                "SELECT o.id " +
                 "FROM I_Order o " +
-                    "LEFT JOIN FETCH o.items oi " +
-                    "LEFT JOIN FETCH oi.product p " +
                 "WHERE 1 = 1"  // 항상 참인 조건. SELECT * FROM orders 과 동일한 결과
         );
         Map<String, Object> params = new HashMap<>();
@@ -48,18 +55,44 @@ public class I_OrderRepositoryImpl implements I_OrderRepositoryCustom {
             params.put("to", to);
         }
 
-        jpql.append(" ORDER BY o.createdAt DESC, o.id DESC");
+        if(afterCreatedAt != null && afterId != null) {
+            jpql.append(" and ").append(KeysetQuery.seekPredicate(ALIAS, CREATED_AT, Sort.Direction.DESC));
+            params.put(KeysetQuery.AFTER_KEY, afterCreatedAt);
+            params.put(KeysetQuery.AFTER_ID, afterId);
+        }
+
+        jpql.append(KeysetQuery.orderBy(ALIAS, CREATED_AT, Sort.Direction.DESC)); // ORDER BY o.createdAt DESC, o.id DESC
 
         // 명시적 타입사용: TypedQuery
-        TypedQuery<I_Order> query = em.createQuery(jpql.toString(), I_Order.class);
+        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class);
         // >> @Query 쓰일 쿼리문
 
         for(Map.Entry<String , Object> entry : params.entrySet()) {
             query.setParameter(entry.getKey(), entry.getValue());
         }
+        query.setMaxResults(limit);
 
-        List<I_Order> results = query.getResultList();
+        List<Long> ids = query.getResultList();
+        if(ids.isEmpty()) return List.of();
 
+        // 2) 해당 주문만 항목/상품까지 fetch join (PK IN 1회) 후 1) 의 순서로 정렬
+        List<I_Order> orders = em.createQuery(
+                "SELECT DISTINCT o " +
+                "FROM I_Order o " +
+                    "LEFT JOIN FETCH o.items oi " +
+                    "LEFT JOIN FETCH oi.product p " +
+                "WHERE o.id IN :ids", I_Order.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<Long, I_Order> byId = new HashMap<>();
+        for(I_Order order : orders) byId.put(order.getId(), order);
+
+        List<I_Order> results = new ArrayList<>(ids.size());
+        for(Long id : ids) {
+            I_Order order = byId.get(id);
+            if(order != null) results.add(order);
+        }
         return results;
     }
 }
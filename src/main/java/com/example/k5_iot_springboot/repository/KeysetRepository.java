@@ -0,0 +1,29 @@
+package com.example.k5_iot_springboot.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+/*
+    ==== KeysetRepository ====
+    : 최신순(id DESC) keyset 목록 조회 공통 리포지토리
+    - 각 리포지토리가 상속하면 아래 쿼리 메서드가 엔티티별로 생성됨 (@NoRepositoryBean: 자체 빈 생성 X)
+    - PK 범위 조회 + LIMIT >> 페이지 깊이와 무관하게 일정한 비용, findAll() 처럼 전체를 메모리에 올리지 않음
+    - 커서 해석/응답 생성은 KeysetCursor, CursorPage 사용
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T, ID> extends JpaRepository<T, ID> {
+
+    List<T> findAllByOrderByIdDesc(Limit limit);
+
+    List<T> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    /** afterId 보다 오래된(작은 id) 행 limit 건 - afterId 가 null 이면 최신부터 */
+    default List<T> findKeysetPage(Long afterId, int limit) {
+        return (afterId == null)
+                ? findAllByOrderByIdDesc(Limit.of(limit))
+                : findByIdLessThanOrderByIdDesc(afterId, Limit.of(limit));
+    }
+}
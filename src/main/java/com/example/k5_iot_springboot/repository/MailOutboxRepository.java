@@ -0,0 +1,60 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.common.enums.MailStatus;
+import com.example.k5_iot_springboot.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 대상 선점 (idx_mail_outbox_status_next 사용)
+    // : FOR UPDATE SKIP LOCKED - 여러 인스턴스가 동시에 폴링해도 같은 행을 중복으로 가져가지 않음
+    @Query(value = """
+        SELECT id
+        FROM mail_outbox
+        WHERE status = 'PENDING'
+            AND next_attempt_at <= :now
+        ORDER BY next_attempt_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+""", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") long now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.claimedAt = :now WHERE m.id IN :ids")
+    int markClaimed(@Param("ids") List<Long> ids, @Param("status") MailStatus status, @Param("now") long now);
+
+    // 발송 중 프로세스가 중단되어 SENDING 으로 남은 행 복구
+    // : 중단도 발송 시도 1회로 계산 (attempts + 1)
+    //      >> 발송할 때마다 워커를 중단시키는 메일이 무한히 재시도되지 않도록 한도 도달 시 DEAD
+    // 1) 이번 시도로 한도에 도달하는 행 -> DEAD
+    @Modifying
+    @Query("""
+        UPDATE MailOutbox m
+        SET m.status = :to, m.attempts = m.attempts + 1, m.lastError = :error
+        WHERE m.status = :from
+            AND m.claimedAt < :threshold
+            AND m.attempts + 1 >= :maxAttempts
+""")
+    int markStaleDead(@Param("from") MailStatus from, @Param("to") MailStatus to,
+                      @Param("threshold") long threshold, @Param("maxAttempts") int maxAttempts,
+                      @Param("error") String error);
+
+    // 2) 나머지 -> 다시 대기 상태 (1) 이후 같은 트랜잭션에서 실행)
+    @Modifying
+    @Query("""
+        UPDATE MailOutbox m
+        SET m.status = :to, m.attempts = m.attempts + 1, m.lastError = :error, m.nextAttemptAt = :now
+        WHERE m.status = :from
+            AND m.claimedAt < :threshold
+""")
+    int releaseStale(@Param("from") MailStatus from, @Param("to") MailStatus to,
+                     @Param("threshold") long threshold, @Param("now") long now,
+                     @Param("error") String error);
+}
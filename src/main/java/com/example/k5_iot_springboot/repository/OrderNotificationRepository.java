@@ -0,0 +1,42 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.entity.OrderNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderNotificationRepository extends JpaRepository<OrderNotification, Long> {
+
+    // 발송 시각이 지난 알림이 있는 사용자 (idx_order_notifications_not_before 범위 스캔)
+    @Query(value = """
+        SELECT DISTINCT user_id
+        FROM order_notifications
+        WHERE not_before <= :now
+        LIMIT :limit
+""", nativeQuery = true)
+    List<Long> findDueUserIds(@Param("now") long now, @Param("limit") int limit);
+
+    // 사용자 1명의 대기 알림 전체 - 행 잠금 (여러 인스턴스가 같은 사용자를 동시에 묶으면 나중 쪽은 삭제 후 빈 결과)
+    @Query(value = """
+        SELECT *
+        FROM order_notifications
+        WHERE user_id = :userId
+        ORDER BY id
+        FOR UPDATE
+""", nativeQuery = true)
+    List<OrderNotification> lockByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM OrderNotification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 메일 등록 실패 시 다음 시도를 뒤로 미룸 (매 주기 같은 실패 반복 방지)
+    @Modifying
+    @Query("UPDATE OrderNotification n SET n.notBefore = :notBefore WHERE n.id IN :ids")
+    int postpone(@Param("ids") List<Long> ids, @Param("notBefore") long notBefore);
+}
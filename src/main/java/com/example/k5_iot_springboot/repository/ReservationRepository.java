@@ -1,6 +1,7 @@
 package com.example.k5_iot_springboot.repository;
 
 import com.example.k5_iot_springboot.entity.Reservation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,7 +10,10 @@ import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    List<Reservation> findByTruckId(Long truckId);
+    // 트럭별 예약 keyset 목록 (id DESC) - reservations(truck_id) FK 인덱스는 PK 포함 >> (truck_id, id) 범위 조회
+    List<Reservation> findByTruckIdOrderByIdDesc(Long truckId, Limit limit);
+
+    List<Reservation> findByTruckIdAndIdLessThanOrderByIdDesc(Long truckId, Long id, Limit limit);
 
     Optional<Reservation> findByIdAndTruckId(Long reservationId, Long truckId);
 }
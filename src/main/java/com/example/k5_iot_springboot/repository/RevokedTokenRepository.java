@@ -0,0 +1,26 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // 기동 시 아직 만료되지 않은 폐기 목록만 적재
+    List<RevokedToken> findAllByExpiryGreaterThan(Long now);
+
+    // 만료된 폐기 기록 배치 삭제 (엔티티 로딩 없이, 최대 limit 건)
+    // : 한 번에 대량 삭제시 긴 잠금/undo 로그 발생 >> 호출부에서 삭제 건수가 limit 미만이 될 때까지 반복
+    //   , 배치마다 별도 트랜잭션으로 커밋
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM revoked_tokens WHERE expiry <= :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") long now, @Param("limit") int limit);
+}
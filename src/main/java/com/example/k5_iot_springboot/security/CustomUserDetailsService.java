@@ -4,9 +4,11 @@ import com.example.k5_iot_springboot.entity.G_User;
 import com.example.k5_iot_springboot.repository.G_UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 스프링 스큐리티의 DaoAuthenticationProvider 가 "username" 으로 사용자를 찾을 떄 호출하는
@@ -23,7 +25,7 @@ import org.springframework.stereotype.Service;
  * */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final G_UserRepository userRepository; // 데이터 접근 계층(사용자 조회 담당)
     private final UserPrincipalMapper principalMapper; // 변환계층(보안 모델로 변환)
 
@@ -44,4 +46,18 @@ public class CustomUserDetailsService implements UserDetailsService {
         return principalMapper.map(user);
     }
 
+    /**
+     * updatePassword 메서드
+     * : 로그인 성공 후 저장된 해시가 현재 인코더 설정(id/강도)과 다를 때 DaoAuthenticationProvider 가 호출
+     * - newPassword 는 이미 현재 설정으로 인코딩된 값 >> 그대로 저장 (Rehash-on-login)
+     * */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails principal, String newPassword) {
+        G_User user = userRepository.findByLoginId(principal.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        user.changePassword(newPassword); // 변경 감지로 update
+        return principalMapper.map(user);
+    }
+
 }
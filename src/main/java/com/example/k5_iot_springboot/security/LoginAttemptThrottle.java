@@ -0,0 +1,157 @@
+package com.example.k5_iot_springboot.security;
+
+import com.example.k5_iot_springboot.common.errors.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * === LoginAttemptThrottle ===
+ * : 로그인 무차별 대입(credential stuffing) 차단
+ *
+ * - 로그인 실패 횟수를 loginId / 클라이언트 IP 별로 슬라이딩 윈도우 카운터에 기록
+ * - 한도를 넘으면 AuthenticationManager 호출 전에 거부 (users 조회 + BCrypt 비교 자체를 생략)
+ * - 로그인 성공 시 해당 loginId 카운터 초기화
+ *
+ * [ 카운터 구조 ]
+ *  window 를 SLOTS 개의 구간(slot)으로 나누고, 각 slot 에 (구간 번호 << 20 | 횟수) 를 long 하나로 저장
+ *  - 증가: CAS 로 갱신 (구간 번호가 다르면 새 구간으로 덮어씀) >> 락 없음
+ *  - 조회: 아직 윈도우 안에 있는 구간의 횟수만 합산
+ *  - 정리: 모든 구간이 윈도우 밖인 카운터는 주기적으로 제거 (compact)
+ * */
+@Slf4j
+@Component
+public class LoginAttemptThrottle {
+
+    private static final int SLOTS = 10;
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final Map<String, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+
+    private final int maxFailuresPerLoginId;
+    private final int maxFailuresPerIp;
+    private final long slotMillis;
+
+    private final Counter blockedByLoginId;
+    private final Counter blockedByIp;
+
+    public LoginAttemptThrottle(
+            @Value("${security.login-throttle.max-failures-per-login-id:5}") int maxFailuresPerLoginId,
+            @Value("${security.login-throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${security.login-throttle.window-seconds:300}") long windowSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxFailuresPerLoginId = maxFailuresPerLoginId;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.slotMillis = Math.max(1, windowSeconds * 1000L / SLOTS);
+
+        this.blockedByLoginId = Counter.builder("auth.login.blocked")
+                .tag("key", "login_id")
+                .description("로그인 시도 차단 횟수")
+                .register(meterRegistry);
+        this.blockedByIp = Counter.builder("auth.login.blocked")
+                .tag("key", "ip")
+                .description("로그인 시도 차단 횟수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.throttle.keys", counters, Map::size)
+                .description("추적 중인 로그인 실패 카운터 수")
+                .register(meterRegistry);
+    }
+
+    /** 로그인 시도 전 검사 - 한도 초과시 RateLimitExceededException (429) */
+    public void checkAllowed(String loginId, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        SlidingWindowCounter byId = counters.get(loginIdKey(loginId));
+        if (byId != null && byId.sum(now) >= maxFailuresPerLoginId) {
+            blockedByLoginId.increment();
+            throw new RateLimitExceededException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", byId.retryAfterSeconds(now));
+        }
+
+        SlidingWindowCounter byIp = counters.get(ipKey(clientIp));
+        if (byIp != null && byIp.sum(now) >= maxFailuresPerIp) {
+            blockedByIp.increment();
+            throw new RateLimitExceededException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", byIp.retryAfterSeconds(now));
+        }
+    }
+
+    /** 인증 실패 기록 */
+    public void recordFailure(String loginId, String clientIp) {
+        long now = System.currentTimeMillis();
+        counters.computeIfAbsent(loginIdKey(loginId), k -> new SlidingWindowCounter()).increment(now);
+        counters.computeIfAbsent(ipKey(clientIp), k -> new SlidingWindowCounter()).increment(now);
+    }
+
+    /** 인증 성공 - loginId 카운터 초기화 (IP 카운터는 유지: 한 IP 에서 여러 계정을 시도하는 경우 대비) */
+    public void recordSuccess(String loginId) {
+        counters.remove(loginIdKey(loginId));
+    }
+
+    /** 윈도우를 벗어난(모든 구간 만료) 카운터 제거 */
+    @Scheduled(fixedDelayString = "${security.login-throttle.compact-interval-ms:60000}")
+    public void compact() {
+        long now = System.currentTimeMillis();
+        int before = counters.size();
+        counters.entrySet().removeIf(e -> e.getValue().sum(now) == 0);
+
+        int removed = before - counters.size();
+        if (removed > 0) log.debug("[login-throttle] compacted {} counters", removed);
+    }
+
+    private static String loginIdKey(String loginId) {
+        return "id:" + (loginId == null ? "" : loginId.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + (clientIp == null ? "" : clientIp);
+    }
+
+    /** 고정 크기 구간 배열 기반 슬라이딩 윈도우 카운터 (lock-free) */
+    private final class SlidingWindowCounter {
+        private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+
+        void increment(long now) {
+            long epoch = now / slotMillis;
+            int idx = (int) (epoch % SLOTS);
+            while (true) {
+                long cur = slots.get(idx);
+                long next = ((cur >>> COUNT_BITS) == epoch)
+                        ? Math.min(cur + 1, (epoch << COUNT_BITS) | COUNT_MASK) // 같은 구간: 횟수 + 1 (상한 고정)
+                        : (epoch << COUNT_BITS) | 1;                            // 지난 구간: 새 구간으로 교체
+                if (slots.compareAndSet(idx, cur, next)) return;
+            }
+        }
+
+        int sum(long now) {
+            long oldest = now / slotMillis - SLOTS + 1;
+            int total = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                long v = slots.get(i);
+                if ((v >>> COUNT_BITS) >= oldest) total += (int) (v & COUNT_MASK);
+            }
+            return total;
+        }
+
+        /** 가장 오래된 유효 구간이 윈도우를 벗어나기까지 남은 시간 */
+        long retryAfterSeconds(long now) {
+            long current = now / slotMillis;
+            long oldest = current;
+            for (int i = 0; i < SLOTS; i++) {
+                long epoch = slots.get(i) >>> COUNT_BITS;
+                if (epoch > current - SLOTS && epoch < oldest) oldest = epoch;
+            }
+            long releaseAt = (oldest + SLOTS) * slotMillis;
+            return Math.max(1, (releaseAt - now + 999) / 1000);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.k5_iot_springboot.security;
+
+import com.example.k5_iot_springboot.entity.RevokedToken;
+import com.example.k5_iot_springboot.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * ==== TokenRevocationStore ====
+ * : 폐기된 Access Token(jti) 목록을 메모리에 보관하고 O(1) 로 조회
+ *
+ * - JwtAuthenticationFilter 가 매 요청마다 조회하므로 DB 를 조회하지 않음
+ * - 폐기 정보는 토큰 만료(exp) 이후에는 의미가 없으므로
+ *      , 만료 시각을 분 단위 버킷으로 묶어 두고 버킷째 한번에 제거 (시간 버킷 방식)
+ * - 재시작 대비: 폐기 시 revoked_tokens 테이블에도 기록, 기동 시 만료되지 않은 항목만 다시 적재
+ * - 이메일 인증 토큰의 1회 사용 처리에도 사용 (사용된 토큰의 jti 를 폐기 등록 >> 재사용시 revoke() == false)
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    /** 만료 버킷 단위(ms) - 1분 */
+    private static final long BUCKET_MS = 60_000L;
+
+    /** DB 정리 시 1회 삭제 건수 */
+    private static final int PURGE_BATCH_SIZE = 1_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    // jti -> 폐기 정보 만료 시각(ms)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // 만료 버킷(분) -> 해당 분에 만료되는 jti 목록 (키 순서 정렬 - 만료된 버킷을 앞에서부터 잘라냄)
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    /** 기동 시 아직 유효한 폐기 목록 복원 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDb() {
+        long now = System.currentTimeMillis();
+        revokedTokenRepository.findAllByExpiryGreaterThan(now)
+                .forEach(t -> remember(t.getJti(), t.getExpiry()));
+        log.info("Revoked tokens loaded: {}", revoked.size());
+    }
+
+    /** 폐기 여부 조회 (필터에서 매 요청 호출) */
+    public boolean isRevoked(String jti) {
+        if(jti == null || revoked.isEmpty()) return false; // 폐기 목록이 비어있으면 즉시 통과
+        Long expiry = revoked.get(jti);
+        return expiry != null && expiry > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰 폐기 등록
+     * @param jti 토큰 식별자
+     * @param expiry 폐기 정보 만료 시각(ms) - 토큰 exp + clock-skew
+     * @return 새로 폐기된 경우 true (이미 폐기되었거나 만료된 토큰이면 false)
+     * */
+    @Transactional
+    public boolean revoke(String jti, long expiry) {
+        if(jti == null || expiry <= System.currentTimeMillis()) return false;
+        if(!remember(jti, expiry)) return false;
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiry(expiry)
+                .build());
+        return true;
+    }
+
+    /** 만료된 버킷 정리 + DB 정리 (배치 단위 삭제 - 배치마다 커밋) */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        // 현재 분 이전의 버킷 = 버킷 내 모든 토큰이 이미 만료됨
+        ConcurrentNavigableMap<Long, Set<String>> expired = buckets.headMap(now / BUCKET_MS, false);
+        expired.values().forEach(jtis -> jtis.forEach(revoked::remove));
+        expired.clear();
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = revokedTokenRepository.deleteExpiredBatch(now, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if(total > 0) log.debug("Expired revoked tokens purged: {}", total);
+    }
+
+    // 메모리 등록 (중복 등록시 false)
+    private boolean remember(String jti, long expiry) {
+        if(revoked.putIfAbsent(jti, expiry) != null) return false;
+        buckets.computeIfAbsent(expiry / BUCKET_MS, k -> ConcurrentHashMap.newKeySet()).add(jti);
+        return true;
+    }
+}
@@ -1,13 +1,12 @@
 package com.example.k5_iot_springboot.service;
 
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.A_Test;
 
-import java.util.List;
-
 public interface A_TestService {
     A_Test createTest(A_Test test);
 
-    List<A_Test> getAllTests();
+    CursorPage<A_Test> getAllTests(String cursor, Integer size);
 
     A_Test getTestByTestId(Long testId);
 
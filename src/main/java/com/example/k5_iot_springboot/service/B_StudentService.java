@@ -3,13 +3,12 @@ package com.example.k5_iot_springboot.service;
 import com.example.k5_iot_springboot.dto.B_Student.StudentCreateRequestDto;
 import com.example.k5_iot_springboot.dto.B_Student.StudentResponseDto;
 import com.example.k5_iot_springboot.dto.B_Student.StudentUpdateRequestDto;
-
-import java.util.List;
+import com.example.k5_iot_springboot.dto.CursorPage;
 
 public interface B_StudentService {
     StudentResponseDto createStudent(StudentCreateRequestDto student);
 
-    List<StudentResponseDto> getAllStudents();
+    CursorPage<StudentResponseDto> getAllStudents(String cursor, Integer size);
 
     StudentResponseDto getstudentById(Long id);
 
@@ -17,5 +16,5 @@ public interface B_StudentService {
 
     void deleteStudent(Long id);
 
-    List<StudentResponseDto> filterStudentByName(String name);
+    CursorPage<StudentResponseDto> filterStudentByName(String name, String cursor, Integer size);
 }
@@ -3,15 +3,14 @@ package com.example.k5_iot_springboot.service;
 import com.example.k5_iot_springboot.dto.C_Book.BookCreateRequestDto;
 import com.example.k5_iot_springboot.dto.C_Book.BookResponseDto;
 import com.example.k5_iot_springboot.dto.C_Book.BookUpdateRequestDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.C_Category;
 
-import java.util.List;
-
 public interface C_BookService {
     ResponseDto<BookResponseDto> createBook(BookCreateRequestDto dto);
 
-    ResponseDto<List<BookResponseDto>> getAllBooks();
+    ResponseDto<CursorPage<BookResponseDto>> getAllBooks(String cursor, Integer size);
 
     ResponseDto<BookResponseDto> getBookById(Long id);
 
@@ -19,7 +18,7 @@ public interface C_BookService {
 
     ResponseDto<Void> deleteBook(Long id);
 
-    ResponseDto<List<BookResponseDto>> getBooksByTitleContaining(String keyword);
+    ResponseDto<CursorPage<BookResponseDto>> getBooksByTitleContaining(String keyword, String cursor, Integer size);
 
-    ResponseDto<List<BookResponseDto>> getBooksByCategory(C_Category category);
+    ResponseDto<CursorPage<BookResponseDto>> getBooksByCategory(C_Category category, String cursor, Integer size);
 }
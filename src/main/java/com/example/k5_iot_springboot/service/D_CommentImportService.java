@@ -0,0 +1,11 @@
+package com.example.k5_iot_springboot.service;
+
+import com.example.k5_iot_springboot.dto.D_Comment.response.CommentImportResultDto;
+import com.example.k5_iot_springboot.dto.ResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface D_CommentImportService {
+    ResponseDto<CommentImportResultDto> importComments(InputStream body) throws IOException;
+}
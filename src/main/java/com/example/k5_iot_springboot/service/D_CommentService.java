@@ -3,6 +3,7 @@ package com.example.k5_iot_springboot.service;
 import com.example.k5_iot_springboot.dto.D_Comment.request.CommentCreateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Comment.request.CommentUpdateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -15,4 +16,6 @@ public interface D_CommentService {
     ResponseDto<CommentResponseDto> createComment(@Positive(message = "postId는 1이상의 정수여야합니다.") Long postId, @Valid CommentCreateRequestDto dto);
 
     ResponseDto<Void> deleteComment(@Positive(message = "postId는 1 이상의 정수여야 합니다.") Long postId, @Positive(message = "commentId는 1 이상의 정수여야 합니다.") Long commentId);
+
+    ResponseDto<CursorPage<CommentResponseDto>> getComments(Long postId, String cursor, Integer size);
 }
@@ -0,0 +1,8 @@
+package com.example.k5_iot_springboot.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface D_PostExportService {
+    void exportPostsWithComments(OutputStream out) throws IOException;
+}
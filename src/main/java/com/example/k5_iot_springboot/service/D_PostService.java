@@ -1,10 +1,13 @@
 package com.example.k5_iot_springboot.service;
 
+import com.example.k5_iot_springboot.common.enums.PostSearchScope;
 import com.example.k5_iot_springboot.dto.D_Post.request.PostCreateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Post.request.PostUpdateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostDetailResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostListResponseDto;
+import com.example.k5_iot_springboot.dto.D_Post.response.PostSearchResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostWithCommentCountResponseDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -22,15 +25,19 @@ public interface D_PostService {
 
     ResponseDto<Void> deletePost(Long id);
 
-    ResponseDto<List<PostListResponseDto>> getAllPosts();
+    ResponseDto<CursorPage<PostListResponseDto>> getAllPosts(String cursor, Integer size);
 
-    ResponseDto<List<PostListResponseDto>> getPostsByAuthor(String author);
+    ResponseDto<CursorPage<PostListResponseDto>> getPostsByAuthor(String author, String cursor, Integer size);
 
-    ResponseDto<List<PostListResponseDto>> searchPostsByTitle(@NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword);
+    ResponseDto<CursorPage<PostListResponseDto>> searchPostsByTitle(@NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword, String cursor, Integer size);
 
     ResponseDto<List<PostWithCommentCountResponseDto>> getTop5PostsByComments();
 
-    ResponseDto<List<PostListResponseDto>> searchPostsByCommentKeyword(@NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword);
+    ResponseDto<CursorPage<PostListResponseDto>> searchPostsByCommentKeyword(@NotBlank(message = "검색 키워드는 비워둘 수 없습니다.") String keyword, String cursor, Integer size);
 
-    ResponseDto<List<PostWithCommentCountResponseDto>> getAuthorPostsWithMinComment(@NotBlank(message = "작성자는 비워질 수 없습니다.") String author, @PositiveOrZero(message = "minCount 는 0 이상이어야합니다.") int minCount);
+    ResponseDto<CursorPage<PostWithCommentCountResponseDto>> getAuthorPostsWithMinComment(@NotBlank(message = "작성자는 비워질 수 없습니다.") String author, @PositiveOrZero(message = "minCount 는 0 이상이어야합니다.") int minCount, String cursor, Integer size);
+
+    ResponseDto<PostSearchResponseDto> searchPosts(String keyword, PostSearchScope scope, int page, Integer size);
+
+    ResponseDto<Integer> rebuildSearchIndex();
 }
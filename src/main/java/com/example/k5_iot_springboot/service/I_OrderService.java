@@ -1,6 +1,7 @@
 package com.example.k5_iot_springboot.service;
 
 import com.example.k5_iot_springboot.common.enums.OrderStatus;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.I_Order.request.OrderRequest;
 import com.example.k5_iot_springboot.dto.I_Order.response.OrderResponse;
 import com.example.k5_iot_springboot.dto.ResponseDto;
@@ -8,7 +9,6 @@ import com.example.k5_iot_springboot.security.UserPrincipal;
 import jakarta.validation.Valid;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 // I_OrderServiceImpl 에 @Service Bean 등록을 하면 주인 인터페이스도 자동으로 Bean 등록이 됨
 public interface I_OrderService {
@@ -18,5 +18,6 @@ public interface I_OrderService {
 
     ResponseDto<OrderResponse.Detail> cancel(UserPrincipal userPrincipal, Long orderId);
 
-    ResponseDto<List<OrderResponse.Detail>> search(UserPrincipal userPrincipal, Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to);
+    ResponseDto<CursorPage<OrderResponse.Detail>> search(UserPrincipal userPrincipal, Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to,
+                                                         String cursor, Integer size);
 }
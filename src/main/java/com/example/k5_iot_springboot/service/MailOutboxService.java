@@ -0,0 +1,19 @@
+package com.example.k5_iot_springboot.service;
+
+import com.example.k5_iot_springboot.entity.MailOutbox;
+
+import java.util.List;
+import java.util.Map;
+
+public interface MailOutboxService {
+    void enqueue(String recipient, String subject, String htmlBody);
+
+    List<MailOutbox> claimDue(int limit);
+
+    int complete(List<Long> sentIds, Map<Long, String> failures);
+
+    StaleRelease releaseStale(long claimedBefore);
+
+    /** releaseStale 결과 - released: 다시 대기 상태, dead: 시도 한도 초과로 DEAD */
+    record StaleRelease(int released, int dead) {}
+}
@@ -1,5 +1,8 @@
 package com.example.k5_iot_springboot.service;
 
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.Notice;
 import com.example.k5_iot_springboot.repository.NoticeRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +27,11 @@ public class NoticeService {
         return noticeRepository.save(notice);
     }
 
-    public List<Notice> getAll() {
-        return noticeRepository.findAll();
+    // 최신순 keyset 페이지 - size + 1 건만 조회
+    public CursorPage<Notice> getAll(String cursor, Integer size) {
+        int limit = PageLimits.clamp(size);
+        List<Notice> rows = noticeRepository.findKeysetPage(KeysetCursor.idOf(cursor), limit + 1);
+        return CursorPage.of(rows, limit, notice -> notice, Notice::getId);
     }
 
     public Notice getById(Long id) {
@@ -1,12 +1,12 @@
 package com.example.k5_iot_springboot.service;
 
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.Reservation.ReservationResponseDto;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 
-import java.util.List;
 
 public interface ReservationService {
-    ResponseDto<List<ReservationResponseDto>> getReservationsByTruck(Long truckId);
+    ResponseDto<CursorPage<ReservationResponseDto>> getReservationsByTruck(Long truckId, String cursor, Integer size);
 
     ResponseDto<ReservationResponseDto> getReservation(Long truckId, Long reservationId);
 }
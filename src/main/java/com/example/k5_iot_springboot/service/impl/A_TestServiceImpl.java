@@ -1,5 +1,8 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.A_Test;
 import com.example.k5_iot_springboot.repository.A_TestRepository;
 import com.example.k5_iot_springboot.service.A_TestService;
@@ -26,8 +29,11 @@ public class A_TestServiceImpl implements A_TestService {
     }
 
     @Override
-    public List<A_Test> getAllTests() {
-        return testRepository.findAll();
+    public CursorPage<A_Test> getAllTests(String cursor, Integer size) {
+        // findAll() 전체 조회 대신 최신순 keyset 페이지 (size + 1 건만 조회)
+        int limit = PageLimits.clamp(size);
+        List<A_Test> rows = testRepository.findKeysetPage(KeysetCursor.idOf(cursor), limit + 1);
+        return CursorPage.of(rows, limit, test -> test, A_Test::getId);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.dto.SerializedResponse;
+import com.example.k5_iot_springboot.event.ArticleChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * === ArticleDetailCache ===
+ * : 게시글 상세 응답(GET /api/v1/articles/{id}) 캐시 - 직렬화된 JSON 바이트 + ETag 보관
+ *
+ * - 적중시 DB 조회/엔티티 매핑/JSON 직렬화 모두 생략, 바이트를 그대로 응답
+ * - 크기 제한: 보관 중인 본문 바이트 합계 기준 (maxBytes) - 초과시 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ *      - 한 항목이 maxBytes / 8 를 넘으면 보관하지 않음 (큰 글 몇 개가 캐시를 독점하지 않도록)
+ * - 무효화: 게시글 수정/삭제 커밋 후(ArticleChangedEvent) 해당 항목 제거
+ *      - 세대(generation) 값: 조회 시작 후 무효화가 있었다면 그 조회 결과는 저장하지 않음
+ *          >> 커밋 직전의 옛 데이터를 읽은 요청이 무효화 뒤에 캐시를 다시 채우는 경합 방지
+ * */
+@Component
+public class ArticleDetailCache {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // this 로 보호 - accessOrder = true: 조회할 때마다 최근 사용 위치로 이동
+    private final LinkedHashMap<Long, SerializedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ArticleDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${articles.cache.max-bytes:33554432}") long maxBytes
+    ) {
+        this.maxBytes = Math.max(1, maxBytes);
+        this.maxEntryBytes = Math.max(1, this.maxBytes / 8);
+
+        this.hits = Counter.builder("articles.cache.requests").tag("result", "hit")
+                .description("게시글 상세 캐시 조회 수").register(meterRegistry);
+        this.misses = Counter.builder("articles.cache.requests").tag("result", "miss")
+                .description("게시글 상세 캐시 조회 수").register(meterRegistry);
+        Gauge.builder("articles.cache.bytes", this, ArticleDetailCache::totalBytes)
+                .description("게시글 상세 캐시에 보관 중인 본문 바이트 합계").register(meterRegistry);
+    }
+
+    /** 캐시된 응답 (없으면 null) */
+    public synchronized SerializedResponse get(Long articleId) {
+        SerializedResponse cached = entries.get(articleId);
+        if (cached != null) hits.increment(); else misses.increment();
+        return cached;
+    }
+
+    /** 현재 세대 - DB 조회 전에 읽어 두었다가 put 에 전달 */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 직렬화된 본문 보관 후 응답 반환 (ETag 계산 포함)
+     * - 조회 도중 무효화가 있었거나(세대 변경) 본문이 너무 크면 보관하지 않고 반환만 함
+     * */
+    public SerializedResponse put(Long articleId, byte[] body, long observedGeneration) {
+        SerializedResponse response = new SerializedResponse(body, etagOf(body));
+        if (body.length > maxEntryBytes) return response;
+
+        synchronized (this) {
+            if (generation != observedGeneration) return response;
+
+            SerializedResponse previous = entries.put(articleId, response);
+            if (previous != null) totalBytes -= previous.body().length;
+            totalBytes += body.length;
+
+            Iterator<SerializedResponse> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().body().length;
+                eldest.remove();
+            }
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onArticleChanged(ArticleChangedEvent event) {
+        generation++;
+        SerializedResponse removed = entries.remove(event.articleId());
+        if (removed != null) totalBytes -= removed.body().length;
+    }
+
+    private synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    /** 본문 MD5 기반 강한 ETag (ShallowEtagHeaderFilter 와 같은 형식) */
+    static String etagOf(byte[] body) {
+        return "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
 import com.example.k5_iot_springboot.dto.B_Student.StudentCreateRequestDto;
 import com.example.k5_iot_springboot.dto.B_Student.StudentResponseDto;
 import com.example.k5_iot_springboot.dto.B_Student.StudentUpdateRequestDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.entity.B_Student;
 import com.example.k5_iot_springboot.repository.B_StudentRepository;
 import com.example.k5_iot_springboot.service.B_StudentService;
@@ -24,13 +27,11 @@ public class B_StudentServiceImpl implements B_StudentService {
     //                      --> 데이터를 수정,삭제, 생성 하려고 하면 오류 발생
     @Override
     @Transactional(readOnly = true)
-    public List<StudentResponseDto> getAllStudents() {
-
-        return studentRepository.findAll()
-                .stream()
-              //  .map(student -> toDto(student))
-                .map(this::toDto)
-                .toList();
+    public CursorPage<StudentResponseDto> getAllStudents(String cursor, Integer size) {
+        // 최신순 keyset 페이지 - size + 1 건만 조회
+        int limit = PageLimits.clamp(size);
+        List<B_Student> rows = studentRepository.findKeysetPage(KeysetCursor.idOf(cursor), limit + 1);
+        return CursorPage.of(rows, limit, this::toDto, B_Student::getId);
     }
 
     @Override
@@ -43,12 +44,11 @@ public class B_StudentServiceImpl implements B_StudentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<StudentResponseDto> filterStudentByName(String name) {
-
-        return studentRepository.findByNameContainingIgnoreCase(name)
-                .stream()
-                .map(this::toDto)
-                .toList();
+    public CursorPage<StudentResponseDto> filterStudentByName(String name, String cursor, Integer size) {
+        // 검색 결과도 최신순 keyset 페이지 (한 번에 최대 PageLimits.MAX_SIZE 건)
+        int limit = PageLimits.clamp(size);
+        List<B_Student> rows = studentRepository.findByNameKeysetPage(name, KeysetCursor.idOf(cursor), limit + 1);
+        return CursorPage.of(rows, limit, this::toDto, B_Student::getId);
     }
     // === 쓰기 계열 (POST, PUT, DELETE) 은 기본 @Transactional 사용
     @Override
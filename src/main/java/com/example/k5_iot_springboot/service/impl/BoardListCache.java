@@ -0,0 +1,129 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.common.enums.BoardSortKey;
+import com.example.k5_iot_springboot.event.BoardChangedEvent;
+import com.example.k5_iot_springboot.repository.F_BoardRepository;
+import com.example.k5_iot_springboot.repository.F_BoardRepositoryCustom.SummaryRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * === BoardListCache ===
+ * : 게시판 목록(offset 페이지) 보조 캐시
+ *
+ * [ 근사 전체 개수 ]
+ * - 페이지 요청마다 COUNT(*) 를 실행하지 않고, 백그라운드에서 주기적으로 갱신한 값을 사용
+ *      - 게시글 생성 커밋 후에는 +1 (다음 갱신에서 DB 기준으로 교정)
+ *      - 정확한 값이 필요하면 요청 시 exactCount=true >> COUNT(*) 1회 후 캐시도 갱신
+ *
+ * [ 페이지 경계 (seek 기준점) ]
+ * - 정렬(기준 컬럼 + 방향)별로 "offset -> 그 직전 행" 을 기억
+ *      >> page N 요청시 가장 가까운 앞쪽 경계 행부터 seek 하고, 남은 차이만 건너뜀
+ *      >> 순차 탐색(1, 2, 3 ... 페이지)은 매번 직전 페이지 끝에서 시작 - 깊은 페이지도 OFFSET 비용이 늘지 않음
+ * - 게시글 생성/수정 커밋 후, 주기적 개수 갱신 시 전부 비움 (순서가 바뀌었을 수 있음)
+ *      - 세대(generation) 값으로 비우기 전에 조회한 경계가 비운 뒤에 저장되지 않도록 방지
+ * - 정렬별 최대 maxAnchors 개 - 초과시 offset 이 가장 작은(재조회 비용이 가장 싼) 경계부터 제거
+ * */
+@Component
+public class BoardListCache {
+
+    private final F_BoardRepository boardRepository;
+    private final int maxAnchors;
+
+    private volatile long approximateCount = -1; // -1: 아직 적재 전
+    private final AtomicLong generation = new AtomicLong();
+
+    // "기준_방향" -> (offset -> 해당 offset 직전 행), 각 맵은 자기 자신으로 동기화
+    private final Map<String, NavigableMap<Long, SummaryRow>> anchors = new ConcurrentHashMap<>();
+
+    public BoardListCache(
+            F_BoardRepository boardRepository,
+            @Value("${boards.list.max-page-anchors:1000}") int maxAnchors
+    ) {
+        this.boardRepository = boardRepository;
+        this.maxAnchors = Math.max(1, maxAnchors);
+    }
+
+    // === 전체 개수 === //
+
+    /** 근사 전체 개수 - 아직 적재 전이면 즉시 1회 조회 */
+    public long approximateCount() {
+        long count = approximateCount;
+        return (count >= 0) ? count : exactCount();
+    }
+
+    /** 정확한 전체 개수 (COUNT(*)) - 조회 결과로 근사값도 갱신 */
+    public long exactCount() {
+        long count = boardRepository.count();
+        approximateCount = count;
+        return count;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        exactCount();
+    }
+
+    @Scheduled(fixedDelayString = "${boards.list.count-refresh-ms:60000}", initialDelayString = "${boards.list.count-refresh-ms:60000}")
+    public void refresh() {
+        exactCount();
+        invalidateAnchors(); // 서비스를 거치지 않은 변경도 주기적으로 교정
+    }
+
+    // === 페이지 경계 === //
+
+    /** 현재 세대 - 조회 전에 읽어 두었다가 경계 저장시 전달 */
+    public long generation() {
+        return generation.get();
+    }
+
+    /** offset 이하에서 가장 가까운 경계 (없으면 null) */
+    public Map.Entry<Long, SummaryRow> floorAnchor(BoardSortKey key, Sort.Direction direction, long offset) {
+        NavigableMap<Long, SummaryRow> map = anchors.get(anchorKey(key, direction));
+        if (map == null) return null;
+        synchronized (map) {
+            return map.floorEntry(offset);
+        }
+    }
+
+    /** offset 위치(그 직전 행 = row) 경계 저장 - 조회 중 게시글이 변경되었으면(세대 변경) 저장하지 않음 */
+    public void putAnchor(BoardSortKey key, Sort.Direction direction, long offset, SummaryRow row, long observedGeneration) {
+        NavigableMap<Long, SummaryRow> map = anchors.computeIfAbsent(anchorKey(key, direction), k -> new TreeMap<>());
+        synchronized (map) {
+            if (generation.get() != observedGeneration) return;
+            map.put(offset, row);
+            while (map.size() > maxAnchors) map.pollFirstEntry();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.created() && approximateCount >= 0) approximateCount++;
+        invalidateAnchors();
+    }
+
+    private void invalidateAnchors() {
+        generation.incrementAndGet();
+        for (NavigableMap<Long, SummaryRow> map : anchors.values()) {
+            synchronized (map) {
+                map.clear();
+            }
+        }
+    }
+
+    private static String anchorKey(BoardSortKey key, Sort.Direction direction) {
+        return key.name() + "_" + direction.name();
+    }
+}
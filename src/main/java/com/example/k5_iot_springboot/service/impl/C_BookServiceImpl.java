@@ -1,8 +1,11 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
 import com.example.k5_iot_springboot.dto.C_Book.BookCreateRequestDto;
 import com.example.k5_iot_springboot.dto.C_Book.BookResponseDto;
 import com.example.k5_iot_springboot.dto.C_Book.BookUpdateRequestDto;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.C_Book;
 import com.example.k5_iot_springboot.entity.C_Category;
@@ -35,14 +38,11 @@ public class C_BookServiceImpl implements C_BookService {
     }
 
     @Override
-    public ResponseDto<List<BookResponseDto>> getAllBooks() {
-        List<BookResponseDto> data  = null;
-        // List<BookResponseDto> data = new ArrayList<>(); -> 필요없는 메모리 낭비됨
-
-        data = bookRepository.findAll()
-                .stream()
-                .map(this::toResponseDto)
-                .toList();
+    public ResponseDto<CursorPage<BookResponseDto>> getAllBooks(String cursor, Integer size) {
+        // 최신순 keyset 페이지 - findAll() 전체 조회 대신 size + 1 건만 조회
+        int limit = PageLimits.clamp(size);
+        List<C_Book> rows = bookRepository.findKeysetPage(KeysetCursor.idOf(cursor), limit + 1);
+        CursorPage<BookResponseDto> data = CursorPage.of(rows, limit, this::toResponseDto, C_Book::getId);
         return ResponseDto.setSuccess("Success", data);
     }
 
@@ -84,33 +84,32 @@ public class C_BookServiceImpl implements C_BookService {
     }
 
     @Override
-    public ResponseDto<List<BookResponseDto>> getBooksByTitleContaining(String keyword) {
-        List<BookResponseDto> data = null;
+    public ResponseDto<CursorPage<BookResponseDto>> getBooksByTitleContaining(String keyword, String cursor, Integer size) {
         if(keyword == null || keyword.isEmpty()) {
             return ResponseDto.setFailed("검색 키워드를 입력해주세요.");
         }
-        List<C_Book> found = bookRepository.findByTitleContaining(keyword);
+        int limit = PageLimits.clamp(size);
+        List<C_Book> found = bookRepository.findByTitleKeysetPage(keyword, KeysetCursor.idOf(cursor), limit + 1);
 
         if(found.isEmpty()) {
             return ResponseDto.setFailed("검색결과가 없습니다.");
         }
-        data = found.stream().map(this::toResponseDto).toList();
+        CursorPage<BookResponseDto> data = CursorPage.of(found, limit, this::toResponseDto, C_Book::getId);
         return ResponseDto.setSuccess("Success", data);
     }
 
     @Override
-    public ResponseDto<List<BookResponseDto>> getBooksByCategory(C_Category category) {
-        List<BookResponseDto> data = null;
-
+    public ResponseDto<CursorPage<BookResponseDto>> getBooksByCategory(C_Category category, String cursor, Integer size) {
         if(category == null) {
             return ResponseDto.setFailed("카테고리를 선택해주세요");
         }
-        List<C_Book> found = bookRepository.findByCategory(category);
+        int limit = PageLimits.clamp(size);
+        List<C_Book> found = bookRepository.findByCategoryKeysetPage(category, KeysetCursor.idOf(cursor), limit + 1);
 
         if(found.isEmpty()) {
             return ResponseDto.setFailed("검색결과가 없습니다.");
         }
-        data = found.stream().map(this::toResponseDto).toList();
+        CursorPage<BookResponseDto> data = CursorPage.of(found, limit, this::toResponseDto, C_Book::getId);
         return ResponseDto.setSuccess("Success", data);
     }
 
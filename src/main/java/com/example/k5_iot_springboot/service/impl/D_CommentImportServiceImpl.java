@@ -0,0 +1,247 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.dto.D_Comment.request.CommentImportRowDto;
+import com.example.k5_iot_springboot.dto.D_Comment.response.CommentImportResultDto;
+import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.example.k5_iot_springboot.repository.D_PostRepository;
+import com.example.k5_iot_springboot.service.D_CommentImportService;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * === D_CommentImportServiceImpl ===
+ * : 댓글 일괄 등록 (레거시 데이터 이관)
+ *
+ * - 요청 본문(JSON 배열)을 스트리밍 파싱 >> 메모리에는 청크(chunkSize 건) 1개만 유지
+ * - 청크 단위 처리 (청크마다 별도 트랜잭션)
+ *      1) 필드 검증 (엔티티 제약과 동일: content 1000자, commenter 100자)
+ *      2) 게시글 존재 여부를 PK IN 조회 1회로 묶음 검증
+ *      3) JDBC batch INSERT (rewriteBatchedStatements=true >> 다건 VALUES 한 문장으로 전송)
+ *          - JPA save() 는 IDENTITY 전략이라 건마다 INSERT 후 id 조회가 필요 >> 사용하지 않음
+ *      4) 게시글별 댓글 수(posts.comment_count) 증가도 같은 트랜잭션에서 batch UPDATE
+ * - 청크 저장 실패(DB 오류)는 해당 청크만 제외하고 계속 진행
+ * - null/객체가 아닌 항목, 필드 타입 불일치는 해당 행만 오류로 기록하고 계속 진행, JSON 문법 오류는 그 지점에서 중단
+ * - 진행 상황은 로그로 기록, 건별 이벤트 발행 X
+ *      - 검색 색인: 청크 커밋 후 해당 청크의 게시글만 재색인 (전체 재색인 X - 재색인 중이면 교체 후 다시 반영)
+ *      - 인기글 캐시: 완료 후 한 번 다시 적재
+ * */
+@Slf4j
+@Service
+public class D_CommentImportServiceImpl implements D_CommentImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO comments (post_id, content, commenter) VALUES (?, ?, ?)";
+    private static final String COUNT_SQL = "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+
+    private static final int MAX_CONTENT_LENGTH = 1000;
+    private static final int MAX_COMMENTER_LENGTH = 100;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final D_PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPostsCache trendingPostsCache;
+    private final int chunkSize;
+
+    public D_CommentImportServiceImpl(
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            D_PostRepository postRepository,
+            PostSearchIndex postSearchIndex,
+            TrendingPostsCache trendingPostsCache,
+            @Value("${comments.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.trendingPostsCache = trendingPostsCache;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public ResponseDto<CommentImportResultDto> importComments(InputStream body) throws IOException {
+        long started = System.currentTimeMillis();
+        Progress progress = new Progress();
+        List<IndexedRow> chunk = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 JSON 배열이어야 합니다.");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) throw new JsonParseException(parser, "JSON 배열이 닫히지 않았습니다.");
+
+                long index = progress.total;
+                CommentImportRowDto row = readRow(parser, token, index, progress);
+                progress.total++; // 문법 오류로 중단되면 해당 항목은 읽은 건수에서 제외
+                if (row == null) continue; // 오류로 기록된 항목 - 다음 항목 계속
+                chunk.add(new IndexedRow(index, row));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            processChunk(chunk, progress);
+        } catch (JsonProcessingException e) {
+            // 앞서 처리한 청크는 커밋된 상태 - 어디까지 반영되었는지 결과로 알려줌
+            processChunk(chunk, progress);
+            progress.aborted = true;
+            progress.error(progress.total, "JSON 형식 오류로 중단: " + e.getOriginalMessage(), false);
+        } finally {
+            if (progress.imported > 0) trendingPostsCache.reload();
+        }
+
+        CommentImportResultDto result = CommentImportResultDto.builder()
+                .total(progress.total)
+                .imported(progress.imported)
+                .skipped(progress.skipped)
+                .aborted(progress.aborted)
+                .errors(progress.errors)
+                .elapsedMillis(System.currentTimeMillis() - started)
+                .build();
+        log.info("[comment-import] done - total={}, imported={}, skipped={}, aborted={}, {} ms",
+                result.total(), result.imported(), result.skipped(), result.aborted(), result.elapsedMillis());
+        return ResponseDto.setSuccess("SUCCESS", result);
+    }
+
+    /**
+     * 배열 항목 1건 읽기 - 처리할 수 없는 항목은 행 오류로 기록하고 null 반환
+     * - null / 객체가 아닌 값(숫자, 문자열, 배열 등): 해당 값만 건너뜀
+     * - 필드 타입 불일치 등 바인딩 오류(MismatchedInputException 등): 해당 행만 건너뜀
+     *      >> 객체 전체를 트리로 먼저 읽어 파서 위치가 항상 다음 항목 앞에 있도록 함
+     * - JSON 문법 오류(JsonParseException)는 이후 위치를 알 수 없으므로 호출부에서 중단 처리
+     * */
+    private CommentImportRowDto readRow(JsonParser parser, JsonToken token, long index, Progress progress) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            progress.error(index, "빈 항목입니다.");
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren(); // 배열이면 끝까지 건너뜀 (단일 값은 그대로)
+            progress.error(index, "객체가 아닌 항목입니다: " + token.asString());
+            return null;
+        }
+
+        JsonNode node = parser.readValueAsTree();
+        try {
+            return objectMapper.treeToValue(node, CommentImportRowDto.class);
+        } catch (JsonMappingException e) {
+            progress.error(index, "항목 형식 오류: " + e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private void processChunk(List<IndexedRow> chunk, Progress progress) {
+        if (chunk.isEmpty()) return;
+
+        // 1) 필드 검증
+        List<IndexedRow> valid = new ArrayList<>(chunk.size());
+        Set<Long> postIds = new HashSet<>();
+        for (IndexedRow r : chunk) {
+            String reason = validate(r.row);
+            if (reason != null) {
+                progress.error(r.index, reason);
+                continue;
+            }
+            valid.add(r);
+            postIds.add(r.row.postId());
+        }
+        if (valid.isEmpty()) return;
+
+        // 2) 게시글 존재 여부 묶음 검증
+        Set<Long> existing = new HashSet<>(postRepository.findExistingIds(postIds));
+        List<Object[]> inserts = new ArrayList<>(valid.size());
+        Map<Long, Integer> countByPost = new HashMap<>();
+        for (IndexedRow r : valid) {
+            Long postId = r.row.postId();
+            if (!existing.contains(postId)) {
+                progress.error(r.index, "게시글이 존재하지 않습니다. postId=" + postId);
+                continue;
+            }
+            inserts.add(new Object[]{postId, r.row.content().trim(), r.row.commenter().trim()});
+            countByPost.merge(postId, 1, Integer::sum);
+        }
+        if (inserts.isEmpty()) return;
+
+        // 3) + 4) 청크 단위 트랜잭션
+        List<Object[]> counts = new ArrayList<>(countByPost.size());
+        countByPost.forEach((postId, n) -> counts.add(new Object[]{n, postId}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                jdbcTemplate.batchUpdate(COUNT_SQL, counts);
+            });
+        } catch (DataAccessException e) {
+            log.warn("[comment-import] chunk failed - rows {}..{}", chunk.get(0).index, chunk.get(chunk.size() - 1).index, e);
+            progress.skipped += inserts.size();
+            progress.error(chunk.get(0).index, "저장 실패(청크 " + chunk.get(0).index + "~" + chunk.get(chunk.size() - 1).index + "): "
+                    + e.getMostSpecificCause().getMessage(), false);
+            return;
+        }
+
+        long before = progress.imported;
+        progress.imported += inserts.size();
+        if (before / PROGRESS_LOG_INTERVAL != progress.imported / PROGRESS_LOG_INTERVAL) {
+            log.info("[comment-import] progress - read={}, imported={}, skipped={}", progress.total, progress.imported, progress.skipped);
+        }
+        // 커밋된 청크의 게시글만 재색인 (청크 실패와 구분 - 저장은 이미 반영됨)
+        postSearchIndex.reindexChanged(countByPost.keySet());
+    }
+
+    private static String validate(CommentImportRowDto row) {
+        if (row == null) return "빈 항목입니다.";
+        if (row.postId() == null || row.postId() <= 0) return "postId 는 1 이상의 정수여야합니다.";
+        if (!StringUtils.hasText(row.content())) return "content 는 비워둘 수 없습니다.";
+        if (row.content().trim().length() > MAX_CONTENT_LENGTH) return "content 는 " + MAX_CONTENT_LENGTH + "자 이하여야합니다.";
+        if (!StringUtils.hasText(row.commenter())) return "commenter 는 비워둘 수 없습니다.";
+        if (row.commenter().trim().length() > MAX_COMMENTER_LENGTH) return "commenter 는 " + MAX_COMMENTER_LENGTH + "자 이하여야합니다.";
+        return null;
+    }
+
+    private record IndexedRow(long index, CommentImportRowDto row) {}
+
+    /** 요청 1건의 누적 결과 - 오류 상세는 MAX_REPORTED_ERRORS 건까지만 보관 */
+    private static final class Progress {
+        long total;
+        long imported;
+        long skipped;
+        boolean aborted;
+        final List<CommentImportResultDto.ImportError> errors = new ArrayList<>();
+
+        void error(long index, String reason) {
+            error(index, reason, true);
+        }
+
+        void error(long index, String reason, boolean countSkipped) {
+            if (countSkipped) skipped++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new CommentImportResultDto.ImportError(index, reason));
+        }
+    }
+}
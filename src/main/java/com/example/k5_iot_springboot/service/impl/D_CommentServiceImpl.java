@@ -3,14 +3,22 @@ package com.example.k5_iot_springboot.service.impl;
 import com.example.k5_iot_springboot.dto.D_Comment.request.CommentCreateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Comment.request.CommentUpdateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto;
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.D_Comment;
 import com.example.k5_iot_springboot.entity.D_Post;
+import com.example.k5_iot_springboot.event.CommentCountChangedEvent;
+import com.example.k5_iot_springboot.event.CommentIndexEvent;
 import com.example.k5_iot_springboot.repository.D_CommentRepository;
 import com.example.k5_iot_springboot.repository.D_PostRepository;
 import com.example.k5_iot_springboot.service.D_CommentService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,53 +29,69 @@ public class D_CommentServiceImpl implements D_CommentService {
 
     private final D_CommentRepository commentRepository;
     private final D_PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성
+    // : D_Post.comments 컬렉션을 건드리지 않음 (addComment 의 contains 검사 = 댓글 전체 로딩)
+    //      1) 댓글 수 +1 UPDATE - 0건이면 게시글 없음 (게시글 행 잠금으로 동시 삭제와도 직렬화)
+    //      2) 게시글 프록시(getReferenceById, SELECT 없음)로 댓글 INSERT
+    //  >> 댓글 수와 무관하게 SQL 2회
     @Override
     @Transactional
     public ResponseDto<CommentResponseDto> createComment(Long postId, CommentCreateRequestDto dto) {
-        D_Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 id 의 게시글을 찾을 수 없습니다."));
-        D_Comment comment = D_Comment.create(dto.content(), dto.commenter());
-        post.addComment(comment); // 연관관계 편의메서드
-        D_Comment saved = commentRepository.save(comment);
+        if(postRepository.adjustCommentCount(postId, 1) == 0) {
+            throw new EntityNotFoundException("해당 id 의 게시글을 찾을 수 없습니다.");
+        }
+        D_Post postRef = postRepository.getReferenceById(postId);
+        D_Comment saved = commentRepository.save(D_Comment.create(postRef, dto.content(), dto.commenter()));
+        eventPublisher.publishEvent(new CommentCountChangedEvent(postId, 1));
+        eventPublisher.publishEvent(new CommentIndexEvent(postId, null, saved.getContent())); // 커밋 후 검색 색인 반영
 
         return ResponseDto.setSuccess("SUCCESS", CommentResponseDto.from(saved));
     }
 
     // 수정
+    // : 댓글 행 잠금 조회 1회(이전 내용 - 검색 색인용, 응답 DTO 재사용) + UPDATE 1회 (엔티티 로딩 없음)
     @Override
     @Transactional
     public ResponseDto<CommentResponseDto> updateComment(Long postId, Long commentId, CommentUpdateRequestDto dto) {
-        D_Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 id 의 댓글을 찾을 수 없습니다."));
-
-        if(!comment.getPost().getId().equals(postId)) {
-            // 일치하지 않으면
-            throw new IllegalArgumentException("해당 댓글이 게시글내에 속해있지않습니다..");
-        }
-        comment.changeContent(dto.content());
+        // 댓글이 없거나 다른 게시글의 댓글인 경우
+        D_CommentRepository.CommentRowProjection row = commentRepository.findRowForUpdate(postId, commentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 게시글에서 id 에 해당하는 댓글을 찾을 수 없습니다."));
+        commentRepository.updateContent(postId, commentId, dto.content());
+        eventPublisher.publishEvent(new CommentIndexEvent(postId, row.getContent(), dto.content()));
 
-        return ResponseDto.setSuccess("SUCCESS", CommentResponseDto.from(comment));
+        CommentResponseDto data = new CommentResponseDto(row.getId(), row.getPostId(), dto.content(), row.getCommenter());
+        return ResponseDto.setSuccess("SUCCESS", data);
     }
 
+    // 삭제
+    // : 댓글 행 잠금 조회 1회(검색 색인에서 뺄 내용) + DELETE 1회 + 댓글 수 -1 UPDATE 1회
+    //      >> removeComment(List.remove) 로 인한 댓글 컬렉션 전체 로딩 없음
     @Override
     @Transactional
     public ResponseDto<Void> deleteComment(Long postId, Long commentId) {
-        D_Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 id의 댓글을 찾을 수 없습니다."));
-
-        if (!comment.getPost().getId().equals(postId)) {
-            throw new IllegalArgumentException("해당 댓글이 게시글 내에 속해있지 않습니다.");
-        }
-
-        // 고아 객체 제거: 컬렉션에서 삭제할 경우 실제 DB에서도 삭제
-        D_Post post = comment.getPost();
-        post.removeComment(comment);
-
-        // 필요 시 명시 가능(중복 방지 - 주로 생략)
-        // commentRepository.delete(comment);
+        D_CommentRepository.CommentRowProjection row = commentRepository.findRowForUpdate(postId, commentId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 게시글에서 id 에 해당하는 댓글을 찾을 수 없습니다."));
+        commentRepository.deleteByIdAndPostId(postId, commentId);
+        postRepository.adjustCommentCount(postId, -1);
+        eventPublisher.publishEvent(new CommentCountChangedEvent(postId, -1));
+        eventPublisher.publishEvent(new CommentIndexEvent(postId, row.getContent(), null));
 
         return ResponseDto.setSuccess("SUCCESS", null);
     }
+
+    // 댓글 목록 (커서 기반, 오래된 댓글부터 - id ASC 커서)
+    // : 첫 호출은 cursor 생략, 이후 응답의 nextCursor 전달 - size + 1 건 조회로 다음 페이지 판단
+    @Override
+    public ResponseDto<CursorPage<CommentResponseDto>> getComments(Long postId, String cursor, Integer size) {
+        if(!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("해당 id 의 게시글을 찾을 수 없습니다.");
+        }
+        int limit = PageLimits.clamp(size);
+        Long afterId = KeysetCursor.idOf(cursor, Sort.Direction.ASC);
+        var rows = commentRepository.findSliceByPostId(postId, (afterId == null) ? 0L : afterId, Limit.of(limit + 1));
+        CursorPage<CommentResponseDto> data = CursorPage.of(rows, limit, row -> row, CommentResponseDto::id, Sort.Direction.ASC);
+        return ResponseDto.setSuccess("SUCCESS", data);
+    }
 }
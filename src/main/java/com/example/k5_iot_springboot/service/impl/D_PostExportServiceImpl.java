@@ -0,0 +1,172 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.service.D_PostExportService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * === D_PostExportServiceImpl ===
+ * : 게시글 + 댓글 전체 덤프 (NDJSON - 게시글 1건당 1줄)
+ *
+ * - 게시글/댓글을 LEFT JOIN 한 단일 쿼리를 MySQL 스트리밍 결과셋으로 읽으며 바로 출력
+ *      >> 목록 조회 + 게시글별 상세 조회(N+1) 없음, 엔티티/리스트 적재 없음 (힙 사용량 일정)
+ *      - TYPE_FORWARD_ONLY + CONCUR_READ_ONLY + fetchSize = Integer.MIN_VALUE
+ *          : MySQL Connector/J 가 결과를 한 행씩 읽어오는 조건 (미설정시 전체 결과를 메모리에 적재)
+ * - 같은 게시글의 행은 연속으로 읽히므로(posts PK 순서) 현재 게시글 1건의 상태만 유지
+ *      >> 게시글이 바뀌는 시점에 이전 게시글 줄을 닫음
+ * - 읽기 전용 트랜잭션 1개 안에서 수행 >> 덤프 전체가 하나의 스냅샷 기준
+ * - 처리량(rows/sec)은 완료 로그 + 메트릭(posts.export.rows, posts.export.duration)으로 기록
+ *
+ * cf) 스트리밍 중에는 해당 커넥션으로 다른 쿼리를 실행할 수 없음 (결과를 끝까지 읽어야 반환)
+ * */
+@Slf4j
+@Service
+public class D_PostExportServiceImpl implements D_PostExportService {
+
+    // posts 를 구동 테이블로 PK 순서 스캔 + comments(post_id) 인덱스 조인 >> 정렬(filesort) 없이 게시글 단위로 연속
+    private static final String EXPORT_SQL = """
+            SELECT
+                p.id AS post_id,
+                p.title AS title,
+                p.content AS post_content,
+                p.author AS author,
+                c.id AS comment_id,
+                c.content AS comment_content,
+                c.commenter AS commenter
+            FROM
+                posts p
+                LEFT JOIN comments c ON c.post_id = p.id
+            ORDER BY
+                p.id
+            """;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Counter exportedRows;
+    private final Counter exportedPosts;
+    private final Timer exportTimer;
+
+    public D_PostExportServiceImpl(
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.exportedRows = Counter.builder("posts.export.rows")
+                .description("내보내기에서 읽은 결과 행 수 (게시글 x 댓글)")
+                .register(meterRegistry);
+        this.exportedPosts = Counter.builder("posts.export.posts")
+                .description("내보내기에서 출력한 게시글 수")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("posts.export.duration")
+                .description("게시글 내보내기 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void exportPostsWithComments(OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        ExportWriter writer;
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.setPrettyPrinter(new MinimalPrettyPrinter("\n")); // 최상위 값 사이 구분자 = 줄바꿈 (NDJSON)
+            writer = new ExportWriter(gen);
+
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                return ps;
+            }, writer));
+
+            writer.finish();
+            if (writer.posts > 0) gen.writeRaw('\n');
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw e.getCause();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        exportTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+        log.info("[post-export] done - posts={}, rows={}, {} ms, {} rows/s",
+                writer.posts, writer.rows, elapsedNanos / 1_000_000, Math.round(writer.rows / seconds));
+    }
+
+    /** 결과셋 1행씩 받아 게시글 단위 JSON 줄로 출력 - 현재 게시글 id 만 상태로 유지 */
+    private final class ExportWriter implements RowCallbackHandler {
+        private final JsonGenerator gen;
+        private long currentPostId = -1;
+        private long rows;
+        private long posts;
+
+        ExportWriter(JsonGenerator gen) {
+            this.gen = gen;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                long postId = rs.getLong("post_id");
+                if (postId != currentPostId) {
+                    finish();
+                    currentPostId = postId;
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", postId);
+                    gen.writeStringField("title", rs.getString("title"));
+                    gen.writeStringField("content", rs.getString("post_content"));
+                    gen.writeStringField("author", rs.getString("author"));
+                    gen.writeArrayFieldStart("comments");
+                }
+
+                long commentId = rs.getLong("comment_id");
+                if (!rs.wasNull()) { // LEFT JOIN - 댓글 없는 게시글은 NULL 1행
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", commentId);
+                    gen.writeStringField("content", rs.getString("comment_content"));
+                    gen.writeStringField("commenter", rs.getString("commenter"));
+                    gen.writeEndObject();
+                }
+                rows++;
+                exportedRows.increment();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /** 출력 중인 게시글 줄 닫기 */
+        void finish() throws IOException {
+            if (currentPostId < 0) return;
+            gen.writeEndArray();
+            gen.writeEndObject();
+            currentPostId = -1;
+            posts++;
+            exportedPosts.increment();
+        }
+    }
+}
@@ -1,23 +1,37 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.enums.PostSearchScope;
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
+import com.example.k5_iot_springboot.dto.D_Comment.response.CommentResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.request.PostCreateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Post.request.PostUpdateRequestDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostDetailResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostListResponseDto;
+import com.example.k5_iot_springboot.dto.D_Post.response.PostSearchResponseDto;
 import com.example.k5_iot_springboot.dto.D_Post.response.PostWithCommentCountResponseDto;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.D_Post;
+import com.example.k5_iot_springboot.event.PostIndexEvent;
+import com.example.k5_iot_springboot.repository.D_CommentRepository;
 import com.example.k5_iot_springboot.repository.D_PostRepository;
 import com.example.k5_iot_springboot.service.D_PostService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -26,6 +40,15 @@ import java.util.Objects;
 public class D_PostServiceImpl implements D_PostService {
 
     private final D_PostRepository postRepository;
+    private final D_CommentRepository commentRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPostsCache trendingPostsCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int SUMMARY_LENGTH = 5; // 목록 내용 요약 길이
+    private static final int DETAIL_COMMENT_SIZE = 20; // 단건 조회에 포함할 댓글 수 (첫 페이지)
+    private static final int CONTENT_BATCH_SIZE = 1000; // 검색 결과 내용 조회 IN 목록 최대 크기
+    private static final String COMMENT_COUNT_SORT = "commentCount"; // 댓글 수 정렬 커서의 정렬 기준명
 
     // 1) 게시글 생성
     @Override
@@ -40,6 +63,7 @@ public class D_PostServiceImpl implements D_PostService {
 
         D_Post post = D_Post.create(title, content, author);
         D_Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostIndexEvent(saved.getId())); // 커밋 후 검색 색인 반영
         return ResponseDto.setSuccess("SUCCESS", PostDetailResponseDto.from(saved));
     }
 
@@ -47,20 +71,27 @@ public class D_PostServiceImpl implements D_PostService {
     @Override
     public ResponseDto<PostDetailResponseDto> getPostById(Long id) {
         Long pid = requirePositiveId(id);
-        D_Post post = postRepository.findByIdWithComments(pid)
+        // 게시글 1건 + 댓글 첫 페이지만 조회 (댓글 전체 fetch join X) >> 댓글 수와 무관한 응답 시간
+        D_Post post = postRepository.findById(pid)
                 .orElseThrow(() -> new EntityNotFoundException("해당 id 의 게시글을 찾을 수 없습니다."));
-        return ResponseDto.setSuccess("SUCCESS", PostDetailResponseDto.from(post));
+        CursorPage<CommentResponseDto> comments = CursorPage.of(
+                commentRepository.findSliceByPostId(pid, 0L, Limit.of(DETAIL_COMMENT_SIZE + 1)),
+                DETAIL_COMMENT_SIZE, row -> row, CommentResponseDto::id, Sort.Direction.ASC);
+        return ResponseDto.setSuccess("SUCCESS", PostDetailResponseDto.from(post, comments));
     }
 
-    // 3) 전체 조회
+    // 3) 전체 조회 (커서 기반)
+    // : 첫 호출은 cursor == null (가장 최신부터), 이후 응답의 nextCursor 를 그대로 전달
+    // : size + 1 건 조회로 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
     @Override
-    public ResponseDto<List<PostListResponseDto>> getAllPosts() {
-        List<D_Post> posts = postRepository.findAllOrderByIdDesc(); // 최신순
-        List<PostListResponseDto> result = posts.stream()
-                .map(PostListResponseDto::from)
-                .map(dto -> dto.summarize(5))
-                .toList();
-        return ResponseDto.setSuccess("SUCCESS",result);
+    public ResponseDto<CursorPage<PostListResponseDto>> getAllPosts(String cursor, Integer size) {
+        int limit = PageLimits.clamp(size);
+        Long afterId = KeysetCursor.idOf(cursor);
+        var rows = postRepository.findFeed((afterId == null) ? Long.MAX_VALUE : afterId, SUMMARY_LENGTH + 1, limit + 1);
+
+        CursorPage<PostListResponseDto> result = CursorPage.of(
+                rows, limit, p -> PostListResponseDto.from(p, SUMMARY_LENGTH), D_PostRepository.PostFeedProjection::getId);
+        return ResponseDto.setSuccess("SUCCESS", result);
     }
 
     // 4) 게시글 수정
@@ -69,12 +100,14 @@ public class D_PostServiceImpl implements D_PostService {
     public ResponseDto<PostDetailResponseDto> updatePost(Long id, PostUpdateRequestDto dto) {
         Objects.requireNonNull(dto, "PostUpdateRequestDto must not be null");
         Long pid = requirePositiveId(id);
-        D_Post post = postRepository.findByIdWithComments(pid)
+        // 제목/내용만 변경 - 댓글 컬렉션은 로딩하지 않음
+        D_Post post = postRepository.findById(pid)
                 .orElseThrow(() -> new EntityNotFoundException("해당 id 의 게시글을 찾을 수 없습니다."));
         post.changeTitle(dto.title().trim());
         post.changeContent(dto.content().trim());
 
         // save 생략되어있음. Dirty Checking 으로 저장 (영속성 컨텍스트에 담긴 엔티티의 상태 변화를 자동 감지)
+        eventPublisher.publishEvent(new PostIndexEvent(pid));
 
         return ResponseDto.setSuccess("SUCCESS", PostDetailResponseDto.from(post));
     }
@@ -83,54 +116,52 @@ public class D_PostServiceImpl implements D_PostService {
     @Override
     @Transactional
     public ResponseDto<Void> deletePost(Long id) {
-        D_Post post = postRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("해당 id의 게시글을 찾을 수 없습니다."));
-        postRepository.delete(post);
-
-        //orphanRemoval, Cascade 설정으로 댓글을 자동 정리됨
+        Long pid = requirePositiveId(id);
+        // 엔티티 삭제(cascade/orphanRemoval)는 댓글 전체를 적재해 1건씩 DELETE
+        //      >> 댓글을 post_id 로 일괄 삭제한 뒤 게시글을 PK 로 삭제 (DELETE 2문)
+        commentRepository.deleteAllByPostId(pid);
+        if (postRepository.deletePostById(pid) == 0) {
+            throw new EntityNotFoundException("해당 id의 게시글을 찾을 수 없습니다."); // 롤백 - 댓글 삭제도 취소
+        }
+        eventPublisher.publishEvent(new PostIndexEvent(pid));
 
         return ResponseDto.setSuccess("SUCCESS", null);
     }
 
     // ===================================================================== //
 
-    // 6) 특정 작성자의 모든 게시글
+    // 6) 특정 작성자의 게시글 (최신순 커서 페이지)
+    // : 피드와 같은 목록 컬럼 + 내용 앞부분만 조회 (엔티티/LOB 전체 적재 X)
     @Override
-    public ResponseDto<List<PostListResponseDto>> getPostsByAuthor(String author) {
-        List<D_Post> posts = postRepository.findByAuthorOrderByIdDesc(author);
-        List<PostListResponseDto> result = posts.stream()
-                .map(PostListResponseDto::from)
-                .toList();
+    public ResponseDto<CursorPage<PostListResponseDto>> getPostsByAuthor(String author, String cursor, Integer size) {
+        int limit = PageLimits.clamp(size);
+        Long afterId = KeysetCursor.idOf(cursor);
+        var rows = postRepository.findAuthorFeed(author, (afterId == null) ? Long.MAX_VALUE : afterId, SUMMARY_LENGTH + 1, limit + 1);
+
+        CursorPage<PostListResponseDto> result = CursorPage.of(
+                rows, limit, p -> PostListResponseDto.from(p, SUMMARY_LENGTH), D_PostRepository.PostFeedProjection::getId);
         return ResponseDto.setSuccess("SUCCESS", result);
     }
 
-    // 7) 제목 키워드 으로 검색
+    // 7) 제목 키워드 으로 검색 (최신순 커서 페이지)
     @Override
-    public ResponseDto<List<PostListResponseDto>> searchPostsByTitle(String keyword) {
-        List<D_Post> posts = postRepository.findByTitleContainingIgnoreCaseOrderByIdDesc(keyword);
-        List<PostListResponseDto> result = posts.stream()
-                .map(PostListResponseDto::from)
-                .toList();
-        return ResponseDto.setSuccess("SUCCESS", result);
+    public ResponseDto<CursorPage<PostListResponseDto>> searchPostsByTitle(String keyword, String cursor, Integer size) {
+        // 검색 색인 사용 (LIKE '%keyword%' 전체 스캔 X) - 기존과 동일하게 최신순
+        return ResponseDto.setSuccess("SUCCESS", searchLatest(keyword, PostSearchScope.TITLE, cursor, size));
     }
 
     // 8) 댓글 개수 순 탑5 조회
     @Override
     public ResponseDto<List<PostWithCommentCountResponseDto>> getTop5PostsByComments() {
-        // var: 지역 변수 타입 추론(Java 10 버전 이상)
-        // 장점 - 반환 타입의 길이가 길 경우, 간결하게 작성됨
-        // 단점 - 타입을 숨겨버려 가독성이 저하될 수도 있음
-        var rows = postRepository.findTopPostsByCommentCount_Native(5);
-
-        List<PostWithCommentCountResponseDto> result = rows.stream()
-                .map(PostWithCommentCountResponseDto::from) // 오버로딩 사용함
-                .toList();
+        // 메모리 인기글 캐시(TrendingPostsCache)에서 바로 반환 - DB 조회 없음
+        // : 댓글 생성/삭제 이벤트로 갱신 + 주기적 재동기화 (집계 쿼리는 캐시 적재시에만 사용)
+        List<PostWithCommentCountResponseDto> result = trendingPostsCache.top();
         return ResponseDto.setSuccess("SUCCESS", result);
     }
 
-    // 9) 특정 댓글이 포함된 게시글들 조회
+    // 9) 특정 댓글이 포함된 게시글들 조회 (최신순 커서 페이지)
     @Override
-    public ResponseDto<List<PostListResponseDto>> searchPostsByCommentKeyword(String keyword) {
+    public ResponseDto<CursorPage<PostListResponseDto>> searchPostsByCommentKeyword(String keyword, String cursor, Integer size) {
         // 1) 입력값 정제/검증
         String clean = (keyword == null) ? "" : keyword.trim();
         if(clean.isEmpty()) {
@@ -141,29 +172,30 @@ public class D_PostServiceImpl implements D_PostService {
             throw new IllegalArgumentException("검색 키워드는 100 자 이하여야합니다.");
         }
 
-        var rows = postRepository.findByCommentKeyword(clean);
-        List<PostListResponseDto> result = rows.stream()
-                .map(PostListResponseDto::from)
-                .toList();
-
-        return ResponseDto.setSuccess("SUCCESS", result);
+        // 검색 색인 사용 (comments 전체 스캔 + GROUP BY 조인 X)
+        return ResponseDto.setSuccess("SUCCESS", searchLatest(clean, PostSearchScope.COMMENT, cursor, size));
     }
 
-    // 10) 특정 작성자의 게시글 중, 댓글 수가 minCount 이상인 게시글 조회
+    // 10) 특정 작성자의 게시글 중, 댓글 수가 minCount 이상인 게시글 조회 (댓글 수 DESC, id DESC 커서 페이지)
     @Override
-    public ResponseDto<List<PostWithCommentCountResponseDto>> getAuthorPostsWithMinComment(String author, int minCount) {
+    public ResponseDto<CursorPage<PostWithCommentCountResponseDto>> getAuthorPostsWithMinComment(String author, int minCount, String cursor, Integer size) {
         // 입력값 검증
         String clean = requireNonBlank(author, "author").trim();
         if(minCount < 0) {
             throw new IllegalArgumentException("minCount 는 0 이상이어야합니다.");
         }
-        // 리포지토리 호출
-        var rows = postRepository.findAuthorPostsWithMinCount(clean, minCount);
+        int limit = PageLimits.clamp(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, COMMENT_COUNT_SORT, Sort.Direction.DESC);
+
+        // 리포지토리 호출 - 커서가 있으면 기준 행 (댓글 수, id) 다음부터
+        var rows = (after == null)
+                ? postRepository.findAuthorPostsWithMinCount(clean, minCount, limit + 1)
+                : postRepository.findAuthorPostsWithMinCountAfter(clean, minCount, parseCount(after.value()), after.id(), limit + 1);
 
         // 매핑
-        List<PostWithCommentCountResponseDto> result = rows.stream()
-                .map(PostWithCommentCountResponseDto::from)
-                .toList();
+        CursorPage<PostWithCommentCountResponseDto> result = CursorPage.ofCursor(
+                rows, limit, PostWithCommentCountResponseDto::from,
+                r -> new KeysetCursor(COMMENT_COUNT_SORT, Sort.Direction.DESC, r.getPostId(), String.valueOf(r.getCommentCount())).encode());
 
 //        List<PostWithCommentCountResponseDto> result = rows.stream()
 //                .map(r -> new PostWithCommentCountResponseDto(
@@ -177,7 +209,73 @@ public class D_PostServiceImpl implements D_PostService {
         return ResponseDto.setSuccess("SUCCESS", result);
     }
 
+    // 11) 통합 검색 (제목 + 댓글, 관련도순 페이지)
+    @Override
+    public ResponseDto<PostSearchResponseDto> searchPosts(String keyword, PostSearchScope scope, int page, Integer pageSize) {
+        String clean = requireNonBlank(keyword, "keyword").trim();
+        int size = PageLimits.clamp(pageSize);
+        if(clean.length() > 100) {
+            throw new IllegalArgumentException("검색 키워드는 100 자 이하여야합니다.");
+        }
+
+        if(page < 0) throw new IllegalArgumentException("page 는 0 이상이어야합니다.");
+        long offset = (long) page * size; // int 곱셈은 큰 page 에서 음수로 넘침
+
+        PostSearchIndex.Result found = postSearchIndex.search(clean, scope, offset, size);
+        PostSearchResponseDto result = PostSearchResponseDto.builder()
+                .content(toListDtos(found.hits()))
+                .totalCount(found.totalCount())
+                .page(page)
+                .size(size)
+                .hasNext(offset + size < found.totalCount())
+                .build();
+        return ResponseDto.setSuccess("SUCCESS", result);
+    }
+
+    // 12) 검색 색인 전체 재구성 (관리자)
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseDto<Integer> rebuildSearchIndex() {
+        int indexed = postSearchIndex.rebuild();
+        if(indexed < 0) throw new IllegalStateException("검색 색인을 이미 재구성 중입니다.");
+        return ResponseDto.setSuccess("SUCCESS", indexed);
+    }
+
     // ======== 내부 유틸 메서드 ========= //
+    // 검색 색인 최신순 커서 페이지 - size + 1 건 조회로 다음 페이지 판단
+    private CursorPage<PostListResponseDto> searchLatest(String keyword, PostSearchScope scope, String cursor, Integer size) {
+        int limit = PageLimits.clamp(size);
+        List<PostSearchIndex.Hit> hits = postSearchIndex.searchLatest(keyword, scope, KeysetCursor.idOf(cursor), limit + 1);
+        // 페이지/커서는 색인 결과 기준 (색인 반영 전 삭제된 게시글이 빠져도 다음 페이지 판단/커서 위치 유지)
+        CursorPage<PostSearchIndex.Hit> page = CursorPage.of(hits, limit, h -> h, PostSearchIndex.Hit::postId);
+        return new CursorPage<>(toListDtos(page.content()), page.hasNext(), page.nextCursor());
+    }
+
+    // 검색 결과 -> 목록 DTO: 제목/작성자는 색인 값, 내용은 결과 게시글만 PK IN 묶음 조회
+    private List<PostListResponseDto> toListDtos(List<PostSearchIndex.Hit> hits) {
+        List<Long> ids = hits.stream().map(PostSearchIndex.Hit::postId).toList();
+        Map<Long, String> contents = new HashMap<>();
+        for (int i = 0; i < ids.size(); i += CONTENT_BATCH_SIZE) {
+            for (var row : postRepository.findContentsByIdIn(ids.subList(i, Math.min(i + CONTENT_BATCH_SIZE, ids.size())))) {
+                contents.put(row.getId(), row.getContent());
+            }
+        }
+        return hits.stream()
+                // 색인 반영 전에 삭제된 게시글은 제외
+                .filter(h -> contents.containsKey(h.postId()))
+                .map(h -> new PostListResponseDto(h.postId(), h.title(), contents.get(h.postId()), h.author()))
+                .toList();
+    }
+
+    // 댓글 수 커서 값 -> long (형식 오류는 400)
+    private static long parseCount(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
     private Long requirePositiveId(Long id) {
         if(id == null || id <= 0) throw new IllegalArgumentException("id는 반드시 양수여야합니다.");
         return id;
@@ -0,0 +1,38 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.entity.base.BaseTimeEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * === EntityVersionProbe ===
+ * : 조건부 요청 처리용 엔티티 버전(updated_at) 조회
+ *
+ * - PK 1건에서 updated_at 컬럼만 조회 (엔티티 로딩/연관 조회/영속성 컨텍스트 등록 없음)
+ * - 엔티티 타입별 JPQL 은 최초 1회 생성 후 재사용
+ * */
+@Component
+@RequiredArgsConstructor
+public class EntityVersionProbe {
+
+    private final EntityManager em;
+    private final Map<Class<?>, String> queries = new ConcurrentHashMap<>();
+
+    /** 해당 id 의 최종 수정 시각 - 존재하지 않으면 empty */
+    public Optional<LocalDateTime> updatedAt(Class<? extends BaseTimeEntity> type, Long id) {
+        String jpql = queries.computeIfAbsent(type, t ->
+                "SELECT e.updatedAt FROM " + em.getMetamodel().entity(t).getName() + " e WHERE e.id = :id");
+        List<LocalDateTime> result = em.createQuery(jpql, LocalDateTime.class)
+                .setParameter("id", id)
+                .setMaxResults(1)
+                .getResultList(); // getResultStream() 은 닫지 않으면 ResultSet 이 남음
+        return result.isEmpty() ? Optional.empty() : Optional.ofNullable(result.get(0));
+    }
+}
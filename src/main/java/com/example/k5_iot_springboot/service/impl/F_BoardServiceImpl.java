@@ -1,14 +1,21 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.enums.BoardSortKey;
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.F_Board.request.BoardRequestDto;
 import com.example.k5_iot_springboot.dto.F_Board.response.BoardResponseDto;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.F_Board;
+import com.example.k5_iot_springboot.event.BoardChangedEvent;
 import com.example.k5_iot_springboot.repository.F_BoardRepository;
+import com.example.k5_iot_springboot.repository.F_BoardRepositoryCustom.SummaryRow;
 import com.example.k5_iot_springboot.service.F_BoardService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -24,10 +32,13 @@ import java.util.Set;
 public class F_BoardServiceImpl implements F_BoardService {
 
     private final F_BoardRepository boardRepository;
+    private final BoardListCache boardListCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // === 페이지네이션 공통: 안전한 Pageable 생성(화이트리스트 정렬) ===
     // : 정렬 키를 그대로 신뢰할 경우, 존재하지 않는 필드 또는 JPA 동적 JPQL 에서 문자열 충돌발생 가능
     private static final Set<String> ALLOWED_SORTS = Set.of("id", "title", "createdAt", "updatedAt");
+    private static final String[] ALL_BOARDS_SORT = {"id,asc"}; // 전체 조회 정렬 (등록순)
     // 보통 Sort 는 Set 사용함
 
     private Pageable buildPageable(int page, int size, String[] sortParams) {
@@ -113,17 +124,15 @@ public class F_BoardServiceImpl implements F_BoardService {
                 .content(request.content())
                 .build();
         F_Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardChangedEvent(saved.getId(), true)); // 커밋 후 목록 캐시 반영
         BoardResponseDto.DetailResponse result = BoardResponseDto.DetailResponse.from(saved);
         return ResponseDto.setSuccess("SUCCESS", result);
     }
 
     @Override
-    public ResponseDto<List<BoardResponseDto.SummaryResponse>> getAllBoards() {
-        List<F_Board> boards = boardRepository.findAll();
-        List<BoardResponseDto.SummaryResponse> result = boards.stream()
-                .map(BoardResponseDto.SummaryResponse::from)
-                .toList();
-        return ResponseDto.setSuccess("SUCCESS", result);
+    public ResponseDto<CursorPage<BoardResponseDto.SummaryResponse>> getAllBoards(String cursor, Integer size) {
+        // 전체 목록 = id 오름차순 커서 페이지 (한 번에 최대 PageLimits.MAX_SIZE 건, 요약 컬럼만)
+        return getBoardsByCursor(cursor, size, ALL_BOARDS_SORT);
     }
 
     @Transactional
@@ -155,6 +164,7 @@ public class F_BoardServiceImpl implements F_BoardService {
         //      >> 트랜잭션은 열린 상태임 (커밋X)
 
         boardRepository.flush(); // 변경 내용을 DB에 flush 함(커밋 X, @PreUpdate 트리거 -> updatedAt 채워짐)
+        eventPublisher.publishEvent(new BoardChangedEvent(board.getId(), false)); // 제목/수정일 정렬 순서 변경 가능
         BoardResponseDto.DetailResponse result = BoardResponseDto.DetailResponse.from(board);
 
        return ResponseDto.setSuccess("SUCCESS", result);
@@ -167,8 +177,17 @@ public class F_BoardServiceImpl implements F_BoardService {
     // 2) Slice<T>
     //      : count 쿼리 실행 X, 데이터 개수를 size - 1 로 요청해서 다음 페이지 존재여부만 판단
 
+    // cf) 목록 조회 방식 (요청/응답 형식은 동일)
+    // 1) 요약 컬럼(id, title, createdAt + 정렬 컬럼)만 조회 >> 정렬 기준별 커버링 인덱스만 읽음 (content/테이블 행 접근 X)
+    //      - 정렬은 첫 번째 기준 1개 + id (동순위 정렬), 이후 기준은 무시
+    // 2) 전체 개수: 매 요청 COUNT(*) 대신 BoardListCache 의 근사값 (exactCount=true 일 때만 COUNT(*))
+    //      - 마지막 페이지에 도달하면 실제 행 수로 정확히 계산
+    // 3) page N: BoardListCache 에 기억된 가장 가까운 앞쪽 페이지 경계부터 seek 후, 남은 차이만 OFFSET
+    //      - hasNext 는 size + 1 건 조회로 판단
+
     @Override
-    public ResponseDto<BoardResponseDto.PageResponse> getBoardsPage(int page, int size, String[] sort) {
+    public ResponseDto<BoardResponseDto.PageResponse> getBoardsPage(int page, Integer pageSize, String[] sort, boolean exactCount) {
+        int size = PageLimits.clamp(pageSize);
         Pageable pageable = buildPageable(page, size, sort);
 
         // cf) Pageable 인터페이스
@@ -176,15 +195,47 @@ public class F_BoardServiceImpl implements F_BoardService {
         //      >> 현재 페이지 번호, 한 페이지 크기, 정렬 정보 반환, 다음 페이지 객체 생성, 이전 페이지 객체 생성 등을 담당
         //      >> 특징
         //          : 실제 구현체는 PageRequest 사용(PageRequest.of(page, size, sort));
-        //          : JpaRepository의 findAll(Pageable pageable) 메서드에 전달
 
-        Page<F_Board> pageResult = boardRepository.findAll(pageable);
-        List<BoardResponseDto.SummaryResponse> content = pageResult.getContent()
-                .stream()
+        Sort.Order primary = pageable.getSort().iterator().next();
+        BoardSortKey key = BoardSortKey.fromProperty(primary.getProperty());
+        Sort.Direction direction = primary.getDirection();
+        long offset = pageable.getOffset();
+
+        long generation = boardListCache.generation();
+        Map.Entry<Long, SummaryRow> anchor = boardListCache.floorAnchor(key, direction, offset);
+        long skip = (anchor == null) ? offset : offset - anchor.getKey();
+        if (skip > Integer.MAX_VALUE) throw new IllegalArgumentException("요청한 페이지 번호가 너무 큽니다.");
+
+        List<SummaryRow> rows = boardRepository.findSummaries(
+                key, direction, (anchor == null) ? null : anchor.getValue(), (int) skip, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) rows = rows.subList(0, size);
+        if (!rows.isEmpty()) {
+            // 다음 페이지(offset + 조회 건수)의 seek 기준점 = 이번 페이지 마지막 행
+            boardListCache.putAnchor(key, direction, offset + rows.size(), rows.get(rows.size() - 1), generation);
+        }
+
+        long total;
+        boolean totalExact;
+        if (exactCount) {
+            total = boardListCache.exactCount();
+            totalExact = true;
+        } else if (!hasNext && (!rows.isEmpty() || offset == 0)) {
+            total = offset + rows.size(); // 마지막 페이지 - 실제 행 수로 확정
+            totalExact = true;
+        } else {
+            // 근사값이 현재 위치보다 작게 보이지 않도록 보정
+            total = Math.max(boardListCache.approximateCount(), offset + rows.size() + (hasNext ? 1 : 0));
+            totalExact = false;
+        }
+
+        List<BoardResponseDto.SummaryResponse> content = rows.stream()
                 .map(BoardResponseDto.SummaryResponse::from)
                 .toList();
 
-        BoardResponseDto.PageMeta meta = BoardResponseDto.PageMeta.from(pageResult);
+        BoardResponseDto.PageMeta meta = BoardResponseDto.PageMeta.of(
+                page, size, total, totalExact, hasNext,
+                Sort.by(new Sort.Order(direction, key.getProperty()), new Sort.Order(direction, "id")));
 
         BoardResponseDto.PageResponse result = BoardResponseDto.PageResponse.builder()
                 .content(content)
@@ -195,28 +246,36 @@ public class F_BoardServiceImpl implements F_BoardService {
     }
 
     @Override
-    public ResponseDto<BoardResponseDto.SliceResponse> getBoardsByCursor(Long cursorId, int size) {
-        // 커서는 최신순 id 기준으로 진행(성능이 좋은 PK 정렬)
-        // 첫 호출: cursorId == null 임 (Long.MAX_VALUE 로 간주하여 최신부터)
-        long startId = (cursorId == null) ? Long.MAX_VALUE : cursorId;
-
-        Slice<F_Board> slice = boardRepository
-                .findByIdLessThanOrderByIdDesc(startId, PageRequest.of(0, size));
-
-        List<BoardResponseDto.SummaryResponse> content = slice.getContent().stream()
-                .map(BoardResponseDto.SummaryResponse::from)
-                .toList();
-
-        Long nextCursor = null;
-        if (!content.isEmpty()) {
-            nextCursor = content.get(content.size() - 1).id(); // 마지막 아이템 id
+    public ResponseDto<CursorPage<BoardResponseDto.SummaryResponse>> getBoardsByCursor(String cursor, Integer pageSize, String[] sort) {
+        // 커서는 화이트리스트 정렬 기준(id, title, createdAt, updatedAt) + id 동순위 정렬로 진행
+        // 첫 호출: cursor == null 임 >> sort 파라미터로 정렬 결정 (없으면 id DESC - 최신 글 먼저)
+        // 다음 호출: cursor 에 정렬 기준/방향/마지막 행 (정렬 값, id) 가 담겨 있음 >> sort 파라미터보다 우선
+        // : 요약 컬럼만 커버링 인덱스 범위 조회 (OFFSET 없음), size + 1 건으로 다음 페이지 존재 여부 판단
+        int size = PageLimits.clamp(pageSize);
+        BoardSortKey key;
+        Sort.Direction direction;
+        SummaryRow after = null;
+
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor decoded = KeysetCursor.decode(cursor);
+            key = BoardSortKey.fromProperty(decoded.sort());
+            direction = decoded.direction();
+            after = new SummaryRow(decoded.id(), null, null, key.parseValue(decoded.value()));
+        } else if (sort != null && sort.length > 0) {
+            Sort.Order primary = buildPageable(0, size, sort).getSort().iterator().next();
+            key = BoardSortKey.fromProperty(primary.getProperty());
+            direction = primary.getDirection();
+        } else {
+            key = BoardSortKey.ID;
+            direction = Sort.Direction.DESC;
         }
 
-        BoardResponseDto.SliceResponse result = BoardResponseDto.SliceResponse.builder()
-                .content(content)
-                .hasNext(slice.hasNext())
-                .nextCursor(nextCursor)
-                .build();
+        List<SummaryRow> rows = boardRepository.findSummaries(key, direction, after, 0, size + 1);
+
+        // 다음 커서 = 마지막 아이템의 (정렬 값, id) + 정렬 기준/방향
+        CursorPage<BoardResponseDto.SummaryResponse> result = CursorPage.ofCursor(
+                rows, size, BoardResponseDto.SummaryResponse::from,
+                last -> new KeysetCursor(key.getProperty(), direction, last.id(), key.formatValue(last.sortValue())).encode());
 
         return ResponseDto.setSuccess("SUCCESS", result);
     }
@@ -1,9 +1,12 @@
 package com.example.k5_iot_springboot.service.impl;
 
 import com.example.k5_iot_springboot.common.enums.RoleType;
+import com.example.k5_iot_springboot.common.errors.FieldConflictException;
+import com.example.k5_iot_springboot.common.errors.FieldErrorItem;
 import com.example.k5_iot_springboot.dto.G_Auth.request.SignInRequest;
 import com.example.k5_iot_springboot.dto.G_Auth.request.SignUpRequest;
 import com.example.k5_iot_springboot.dto.G_Auth.response.SignInResponse;
+import com.example.k5_iot_springboot.dto.G_Auth.response.SignInResult;
 import com.example.k5_iot_springboot.dto.J_Mail.MailRequest;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.G_Role;
@@ -13,22 +16,28 @@ import com.example.k5_iot_springboot.provider.JwtProvider;
 import com.example.k5_iot_springboot.repository.G_RoleRepository;
 import com.example.k5_iot_springboot.repository.G_UserRepository;
 import com.example.k5_iot_springboot.repository.RefreshTokenRepository;
+import com.example.k5_iot_springboot.security.LoginAttemptThrottle;
+import com.example.k5_iot_springboot.security.TokenRevocationStore;
 import com.example.k5_iot_springboot.security.UserPrincipal;
 import com.example.k5_iot_springboot.service.G_AuthService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -44,24 +53,37 @@ public class G_AuthServiceImpl implements G_AuthService {
     private final JwtProvider jwtProvider;
     private final G_RoleRepository roleRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationStore revocationStore;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final TransactionTemplate transactionTemplate;
+
+    // users 테이블 유니크 제약 이름 (G_User @Table 참고)
+    private static final String UK_LOGIN_ID = "uk_users_login_id";
+    private static final String UK_EMAIL = "uk_users_email";
+    private static final String UK_NICKNAME = "uk_users_nickname";
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 해시 계산 동안 트랜잭션/커넥션 미보유 - 저장 단계만 트랜잭션
     public void signUp(SignUpRequest req) {
-        // 1) 유효성 검사 (중복 체크 - 유니크 제약 검증)
-        if(userRepository.existsByLoginId(req.loginId())) {
-            throw new IllegalArgumentException("이미 사용중인 로그인 아이디입니다.");
-        }
-        if(userRepository.existsByEmail(req.email())) {
-            throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
-        }
-        if(userRepository.existsByNickname(req.nickname())) {
-            throw new IllegalArgumentException("이미 사용중인 닉네임입니다.");
-        }
+        // 1) 유효성 검사 (중복 체크 - 유니크 필드 3개를 한 번의 조회로 확인)
+        G_UserRepository.SignUpConflictProjection taken =
+                userRepository.findSignUpConflicts(req.loginId(), req.email(), req.nickname());
+
+        List<FieldErrorItem> conflicts = new ArrayList<>();
+        if(taken.getLoginIdTaken() > 0) conflicts.add(conflictOf(UK_LOGIN_ID, req));
+        if(taken.getEmailTaken() > 0) conflicts.add(conflictOf(UK_EMAIL, req));
+        if(taken.getNicknameTaken() > 0) conflicts.add(conflictOf(UK_NICKNAME, req));
+        if(!conflicts.isEmpty()) throw new FieldConflictException(conflicts.get(0).message(), conflicts);
 
-        // 2) 비밀번호 해시 - BCrypt 패스워드
+        // 2) 비밀번호 해시 - BCrypt 패스워드 (의도적으로 느린 연산 >> 트랜잭션 밖에서 수행)
         String encoded = passwordEncoder.encode(req.password());
 
+        // 3) ~ 4) 저장만 트랜잭션으로 묶음
+        transactionTemplate.executeWithoutResult(status -> persistNewUser(req, encoded));
+    }
+
+    // 저장 트랜잭션 - 유니크 제약 위반은 409 로 변환 (예외로 롤백)
+    private void persistNewUser(SignUpRequest req, String encoded) {
         // 3) 엔티티 생성 / 저장
         G_User user = G_User.builder()
                 .loginId(req.loginId())
@@ -73,11 +95,39 @@ public class G_AuthServiceImpl implements G_AuthService {
 
         // 기본 권한 부여
         // cf) getReferenceById : 특정 Id 를 가진 엔티티의 프록시 객체를 즉시 반환
+        //      >> SELECT 없이 FK 값만 사용하므로 별도 캐시 불필요
         G_Role defaultRole = roleRepository.getReferenceById(RoleType.USER);
         user.grantRole(defaultRole); // 변경 감지로 user_roles 가 insert 됨(cascade=All 로 인해)
 
-        userRepository.save(user);
+        // 4) 저장 - 1) 검사 이후 동시에 가입한 요청이 있으면 유니크 제약(uk_users_*) 위반
+        //      >> 즉시 flush 하여 위반된 제약 이름으로 필드를 판별 후 409 응답
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            String constraint = violatedConstraint(e);
+            if(constraint == null) throw e;
+            FieldErrorItem conflict = conflictOf(constraint, req);
+            throw new FieldConflictException(conflict.message(), List.of(conflict));
+        }
+    }
+
+    // 유니크 제약 이름 -> 필드 오류 항목
+    private static FieldErrorItem conflictOf(String constraint, SignUpRequest req) {
+        return switch (constraint) {
+            case UK_LOGIN_ID -> new FieldErrorItem("loginId", req.loginId(), "이미 사용중인 로그인 아이디입니다.");
+            case UK_EMAIL -> new FieldErrorItem("email", req.email(), "이미 사용중인 이메일입니다.");
+            default -> new FieldErrorItem("nickname", req.nickname(), "이미 사용중인 닉네임입니다.");
+        };
+    }
 
+    // 예외 메시지에서 위반된 users 유니크 제약 이름 추출 (없으면 null)
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        if(message == null) return null;
+        for(String uk : List.of(UK_LOGIN_ID, UK_EMAIL, UK_NICKNAME)) {
+            if(message.contains(uk)) return uk;
+        }
+        return null;
     }
 
     /**
@@ -87,17 +137,25 @@ public class G_AuthServiceImpl implements G_AuthService {
      * */
     @Override
     @Transactional
-    public ResponseDto<SignInResponse> sighIn(SignInRequest req, HttpServletResponse response) {
+    public SignInResult sighIn(SignInRequest req, String clientIp) {
 
         // 스프링 시큐리티 표준 인증 흐름(UserDetailsService + PasswordEncoder)
-        Authentication auth = authenticationManager.authenticate(
-                // 내부에서 DaoAuthenticationProvider 가 CustomUserDetailsService.loadUserByUsername(loginId) 호출
-                // >> G_User 조회
-                // >> UserPrincipalMapper.map() 으로 UserPrincipal 생성
-                // >> PasswordEncoder 로 비밀번호 비교
-                // >> 인증 성공시 Authentication 반환
-                new UsernamePasswordAuthenticationToken(req.loginId(), req.password())
-        );
+        Authentication auth;
+        try {
+            auth = authenticationManager.authenticate(
+                    // 내부에서 DaoAuthenticationProvider 가 CustomUserDetailsService.loadUserByUsername(loginId) 호출
+                    // >> G_User 조회
+                    // >> UserPrincipalMapper.map() 으로 UserPrincipal 생성
+                    // >> PasswordEncoder 로 비밀번호 비교
+                    // >> 인증 성공시 Authentication 반환
+                    new UsernamePasswordAuthenticationToken(req.loginId(), req.password())
+            );
+        } catch (AuthenticationException e) {
+            // 1-1) 실패 횟수 기록 (loginId / IP) - 한도 초과시 이후 요청은 컨트롤러에서 바로 차단
+            loginAttemptThrottle.recordFailure(req.loginId(), clientIp);
+            throw e;
+        }
+        loginAttemptThrottle.recordSuccess(req.loginId());
 
         // 2) 권한 문자열 추출
         Set<String> roles =auth.getAuthorities().stream()
@@ -122,14 +180,6 @@ public class G_AuthServiceImpl implements G_AuthService {
                         .build()
         );
 
-        // +) Refresh Token 쿠키 설정
-        Cookie cookie = new Cookie("refreshToken", refreshToken);
-        cookie.setHttpOnly(true);
-       // cookie.setSecure(true);
-        cookie.setPath("/");
-        cookie.setMaxAge((int)(7 * 24 * 60 * 60));
-        response.addCookie(cookie);
-
         // 4) 만료시각 추출하여 응답에 포함시키기
         Claims claims = jwtProvider.getClaims(accessToken);
         long expiresAt = claims.getExpiration().getTime();
@@ -143,7 +193,8 @@ public class G_AuthServiceImpl implements G_AuthService {
                 roles
         );
 
-        return ResponseDto.setSuccess("로그인 성공", result);
+        // +) Refresh Token 쿠키는 컨트롤러가 응답 헤더로 설정 (해시 풀 스레드에서 HttpServletResponse 접근 X)
+        return new SignInResult(ResponseDto.setSuccess("로그인 성공", result), refreshToken);
     }
 
     @Override
@@ -179,6 +230,24 @@ public class G_AuthServiceImpl implements G_AuthService {
         refreshTokenRepository.deleteByUsername(userPrincipal.getUsername());
     }
 
+    /**
+     * 로그아웃 시 Access Token 폐기
+     * - Refresh Token 삭제만으로는 Access Token 이 만료(jwt.expiration)까지 유효하므로
+     *      , jti 를 폐기 목록에 등록하여 필터에서 즉시 차단되도록 함
+     * */
+    @Override
+    @Transactional
+    public void revokeAccessToken(String authorization) {
+        if(authorization == null || !authorization.startsWith(JwtProvider.BEARER_PREFIX)) return;
+
+        String token = jwtProvider.removeBearer(authorization);
+        if(token.isBlank() || !jwtProvider.isValidToken(token)) return; // 이미 무효한 토큰은 폐기 불필요
+
+        Claims claims = jwtProvider.getClaims(token);
+        long expiry = claims.getExpiration().getTime() + jwtProvider.getClockSkewMillis();
+        revocationStore.revoke(claims.getId(), expiry);
+    }
+
     @Override
     @Transactional
     public void resetPassword(MailRequest.@Valid PasswordReset req) {
@@ -1,19 +1,28 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.H_Article.request.ArticleCreateRequest;
 import com.example.k5_iot_springboot.dto.H_Article.request.ArticleUpdateRequest;
 import com.example.k5_iot_springboot.dto.H_Article.response.ArticleDetailResponse;
 import com.example.k5_iot_springboot.dto.H_Article.response.ArticleListResponse;
 import com.example.k5_iot_springboot.dto.ResponseDto;
+import com.example.k5_iot_springboot.dto.SerializedResponse;
 import com.example.k5_iot_springboot.entity.G_User;
 import com.example.k5_iot_springboot.entity.H_Article;
+import com.example.k5_iot_springboot.event.ArticleChangedEvent;
 import com.example.k5_iot_springboot.repository.G_UserRepository;
 import com.example.k5_iot_springboot.repository.H_ArticleRepository;
 import com.example.k5_iot_springboot.security.UserPrincipal;
 import com.example.k5_iot_springboot.service.H_ArticleService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -25,6 +34,9 @@ import java.util.List;
 public class H_ArticleServiceImpl implements H_ArticleService {
     private final H_ArticleRepository articleRepository;
     private final G_UserRepository userRepository;
+    private final ArticleDetailCache articleDetailCache;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -46,12 +58,13 @@ public class H_ArticleServiceImpl implements H_ArticleService {
     }
 
     @Override
-    public ResponseDto<List<ArticleListResponse>> getAllArticles() {
-        List<ArticleListResponse> data = null;
-        data = articleRepository.findAll()
-                .stream()
-                .map(ArticleListResponse::from)
-                .toList();
+    public ResponseDto<CursorPage<ArticleListResponse>> getAllArticles(String cursor, Integer size) {
+        // 최신순 keyset 페이지 (size + 1 건 조회로 다음 페이지 판단)
+        // : 작성자 조인 DTO 조회 1회 - 엔티티/작성자 지연 로딩/content 적재 없음
+        int limit = PageLimits.clamp(size);
+        Long cursorId = KeysetCursor.idOf(cursor);
+        List<ArticleListResponse> rows = articleRepository.findListKeysetPage(cursorId, limit + 1);
+        CursorPage<ArticleListResponse> data = CursorPage.of(rows, limit, row -> row, ArticleListResponse::id);
 
         return ResponseDto.setSuccess("SUCCESS", data);
     }
@@ -62,7 +75,7 @@ public class H_ArticleServiceImpl implements H_ArticleService {
 
         if(id == null) throw new IllegalArgumentException("ARTICLE_ID_REQUIRED");
 
-        H_Article article = articleRepository.findById(id)
+        H_Article article = articleRepository.findWithAuthorById(id)
                 .orElseThrow(() -> new IllegalArgumentException("ARTICLE_NOT_FOUND"));
 
         data = ArticleDetailResponse.from(article);
@@ -70,6 +83,27 @@ public class H_ArticleServiceImpl implements H_ArticleService {
         return ResponseDto.setSuccess("SUCCESS", data);
     }
 
+    // 상세 조회 (캐시) - 직렬화된 응답 본문(ResponseDto JSON) + ETag
+    // : 적중시 DB 조회/직렬화 없음, 미적중시 조회 후 직렬화 결과를 캐시에 보관
+    // : 트랜잭션 없이 실행 (NOT_SUPPORTED) - 캐시 적중 요청이 커넥션을 잡지 않도록
+    //   미적중시 findWithAuthorById 만 리포지토리 기본 읽기 트랜잭션으로 실행 (작성자는 fetch join 이라 이후 지연 로딩 없음)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SerializedResponse getArticleDetailJson(Long id) {
+        if(id == null) throw new IllegalArgumentException("ARTICLE_ID_REQUIRED");
+
+        SerializedResponse cached = articleDetailCache.get(id);
+        if (cached != null) return cached;
+
+        long generation = articleDetailCache.generation(); // DB 조회 전에 읽어야 함
+        ResponseDto<ArticleDetailResponse> response = getArticleById(id);
+        try {
+            return articleDetailCache.put(id, objectMapper.writeValueAsBytes(response), generation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
     @Transactional
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or @authz.isArticleAuthor(#articleId, authentication)" )
@@ -89,6 +123,7 @@ public class H_ArticleServiceImpl implements H_ArticleService {
 
         article.update(request.title(), request.content());
         articleRepository.flush();
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId)); // 커밋 후 상세 캐시 제거
 
         return  ResponseDto.setSuccess("SUCCESS", ArticleDetailResponse.from(article));
     }
@@ -103,6 +138,7 @@ public class H_ArticleServiceImpl implements H_ArticleService {
                 .orElseThrow(() -> new IllegalArgumentException("ARTICLE_NOT_FOUND"));
 
         articleRepository.delete(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId)); // 커밋 후 상세 캐시 제거
 
         return ResponseDto.setSuccess("SUCCESS", null);
     }
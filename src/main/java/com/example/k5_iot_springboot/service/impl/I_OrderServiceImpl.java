@@ -1,11 +1,15 @@
 package com.example.k5_iot_springboot.service.impl;
 
 import com.example.k5_iot_springboot.common.enums.OrderStatus;
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
 import com.example.k5_iot_springboot.common.utils.DateUtils;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.I_Order.request.OrderRequest;
 import com.example.k5_iot_springboot.dto.I_Order.response.OrderResponse;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.*;
+import com.example.k5_iot_springboot.event.OrderStatusChangedEvent;
 import com.example.k5_iot_springboot.repository.I_OrderRepository;
 import com.example.k5_iot_springboot.repository.I_ProductRepository;
 import com.example.k5_iot_springboot.repository.I_StockRepository;
@@ -16,6 +20,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
@@ -23,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.naming.AuthenticationException;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +42,9 @@ public class I_OrderServiceImpl implements I_OrderService {
     private final I_OrderRepository orderRepository;
     private final I_ProductRepository productRepository;
     private final I_StockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String CREATED_AT_SORT = "createdAt"; // 주문 검색 커서의 정렬 기준명
 
     @Override
     @Transactional
@@ -123,6 +133,9 @@ public class I_OrderServiceImpl implements I_OrderService {
 
             data = toOrderResponse(order);
         }
+
+        // 고객 알림: OrderStatusNotifier 가 커밋 직전 대기 알림으로 저장 (메일은 window 뒤 묶어서 등록)
+        publishStatusChanged(order, OrderStatus.PENDING);
         return ResponseDto.setSuccess("주문이 성공적으로 승인되었습니다.", data);
     }
 
@@ -141,6 +154,8 @@ public class I_OrderServiceImpl implements I_OrderService {
         }
 
         // === MANAGER 와 ADMIN 은 PENDING 상태가 아니어도 (APPROVED 상태라도) 취소가능함
+        OrderStatus before = order.getOrderStatus();
+
         // 상태별 분기
         if(order.getOrderStatus() == OrderStatus.PENDING) {
             // 권한 확인 필요 X
@@ -188,28 +203,43 @@ public class I_OrderServiceImpl implements I_OrderService {
         // + 변경 정보 자동 저장
         // + 변경 발생시 DB 트리거에 의해 로그 기록 생성
         data = toOrderResponse(order);
+        publishStatusChanged(order, before);
         return ResponseDto.setSuccess("주문 취소가 정상적으로 진행되었습니다.", data);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or @authz.isSelf(#userId, authentication)")
-    public ResponseDto<List<OrderResponse.Detail>> search(UserPrincipal userPrincipal, Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to) {
-        List<OrderResponse.Detail> data = null;
+    public ResponseDto<CursorPage<OrderResponse.Detail>> search(UserPrincipal userPrincipal, Long userId, OrderStatus status, LocalDateTime from, LocalDateTime to,
+                                                                String cursor, Integer size) {
+        CursorPage<OrderResponse.Detail> data = null;
 
         LocalDateTime fromUtc = DateUtils.kstToUtc(from);
         LocalDateTime toUtc = DateUtils.kstToUtc(to);
 
-        List<I_Order> orders = orderRepository.searchOrders(userId, status, fromUtc, toUtc);
+        // 생성일 DESC, id DESC 커서 페이지 - 커서 = 마지막 주문의 (createdAt(UTC), id)
+        int limit = PageLimits.clamp(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, CREATED_AT_SORT, Sort.Direction.DESC);
+        LocalDateTime afterCreatedAt = (after == null) ? null : parseCreatedAt(after.value());
+        Long afterId = (after == null) ? null : after.id();
+
+        List<I_Order> orders = orderRepository.searchOrders(userId, status, fromUtc, toUtc, afterCreatedAt, afterId, limit + 1);
 
         if(orders == null || orders.isEmpty()) throw new IllegalArgumentException("조회할 주문정보가 없습니다.");
 
-        data = orders.stream()
-                .map(this::toOrderResponse)
-                .toList();
+        data = CursorPage.ofCursor(orders, limit, this::toOrderResponse,
+                o -> new KeysetCursor(CREATED_AT_SORT, Sort.Direction.DESC, o.getId(), o.getCreatedAt().toString()).encode());
 
         return ResponseDto.setSuccess("조건 검색이 정상적으로 진행되었습니다.", data);
     }
 
+    private static LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
     // 변환 유틸
     private OrderResponse.Detail toOrderResponse(I_Order order) {
         List<OrderResponse.OrderItemList> items = order.getItems().stream()
@@ -248,6 +278,18 @@ public class I_OrderServiceImpl implements I_OrderService {
         );
     }
 
+    // === 주문 상태 변경 이벤트 발행 (BEFORE_COMMIT 리스너 - 주문 변경과 함께 커밋, 롤백시 저장되지 않음) ===
+    // cf) 상태가 실제로 바뀐 경우만 발행 (예: 항목이 없는 주문의 승인은 재고 루프를 돌지 않아 PENDING 유지)
+    private void publishStatusChanged(I_Order order, OrderStatus before) {
+        if (order.getOrderStatus() == before) return;
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(),
+                order.getUser().getId(),
+                before,
+                order.getOrderStatus()
+        ));
+    }
+
     // === 호출자 권한이 MANAGER/ADMIN 인지 확인 하는 메서드 ===
     private boolean hasManagerOrAdmin(UserPrincipal userPrincipal) {
         if(userPrincipal == null || userPrincipal.getAuthorities() == null) return false;
@@ -1,65 +1,87 @@
 package com.example.k5_iot_springboot.service.impl;
 
 import com.example.k5_iot_springboot.dto.J_Mail.MailRequest;
+import com.example.k5_iot_springboot.event.EmailVerifiedEvent;
 import com.example.k5_iot_springboot.provider.JwtProvider;
+import com.example.k5_iot_springboot.provider.MailTemplateProvider;
+import com.example.k5_iot_springboot.repository.G_UserRepository;
+import com.example.k5_iot_springboot.security.TokenRevocationStore;
 import com.example.k5_iot_springboot.service.J_MailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.example.k5_iot_springboot.service.MailOutboxService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class J_MailServiceImpl implements J_MailService {
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
     private final JwtProvider jwtProvider;
+    private final TokenRevocationStore revocationStore;
+    private final G_UserRepository userRepository;
+    private final MailTemplateProvider mailTemplateProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Value("${spring.mail.username}") // properties 에서 설정한 이메일 발신자 아이디
-    private String senderEmail;
-
-    private MimeMessage createEmail(String email, String token) throws MessagingException {
-        // 메일 내용을 생성하는 메서드
-        // : 메일 주소와 JWT 토큰을 매개변수로 받음
-        MimeMessage message = javaMailSender.createMimeMessage();
-        message.setFrom(senderEmail); // 환경변수(properties)의 이메일(발신자)
-        message.setRecipients(MimeMessage.RecipientType.TO, email); // 매개변수의 이메일 (수신자)
-
-        message.setSubject(" === [k5_iot_springboot] 이메일 인증 링크 발송 ==="); // 이메일 제목 설정
-
-        String body = """
-                    <h3>이메일 인증 링크 입니다.</h3>
-                    <a href="http://localhost:8080/api/v1/auth/verify?token=%s">여기를 클릭하여 인증을 완료해주세요</a>
-                """.formatted(token);
-
-        message.setText(body, "UTF-8", "html"); // body 내용을 UTF-8 로 인코딩 해야 포트번호 587번으로 넘어간다..
-
-        return message;
+    /**
+     * 인증 메일 발송 요청
+     * - 제목/본문은 templates/mail/email-verification*.html 렌더링 결과 (MailTemplateProvider)
+     * - SMTP 발송을 요청 스레드에서 기다리지 않음: mail_outbox 에 등록 후 즉시 반환
+     *      >> 발송/재시도는 MailOutboxDispatcher 가 백그라운드에서 처리
+     * */
+    @Override
+    public void sendEmail(MailRequest.@Valid SendMail req) {
+        String token = jwtProvider.generateEmailJwtToken(req.email());
+        // 요청 로케일(Accept-Language)에 맞는 템플릿 사용 - 없으면 기본(한국어) 템플릿
+        MailTemplateProvider.RenderedMail mail = mailTemplateProvider.render(
+                "email-verification", LocaleContextHolder.getLocale(), Map.of("token", token));
+        mailOutboxService.enqueue(req.email(), mail.subject(), mail.body());
+        log.info("인증 메일 발송 대기열 등록 - email={}", req.email());
     }
 
+    /**
+     * 이메일 인증
+     * 1) 토큰 검증 (구조 사전 검사 + 서명/만료) - email 클레임이 없는 토큰(액세스 토큰 등)은 거부
+     * 2) 이미 사용된 링크(jti 가 폐기 목록에 있음)는 거부 (메모리 O(1))
+     * 3) users.email_verified UPDATE 1회
+     * 4) 1회 사용 처리: 커밋 이후 jti 를 폐기 목록에 등록 (EmailVerifiedEvent, 토큰 exp 이후 자동 정리)
+     *      >> 인증 처리가 롤백되면 링크가 소모되지 않음
+     *      cf) 동시에 같은 링크로 두 번 요청하면 둘 다 통과할 수 있으나 UPDATE 가 멱등이라 결과 동일
+     * */
     @Override
-    public void sendEmail(MailRequest.@Valid SendMail req) {
-        try {
-            String token = jwtProvider.generateEmailJwtToken(req.email());
-            MimeMessage message = createEmail(req.email(), token);
+    @Transactional
+    public void verifyEmail(String token) {
+        Claims claims = jwtProvider.getValidClaimsOrNull(token);
+        String email = (claims == null) ? null : claims.get("email", String.class);
+        if(email == null || claims.getId() == null) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 인증 링크입니다.");
+        }
+        if(revocationStore.isRevoked(claims.getId())) {
+            throw new IllegalArgumentException("이미 사용된 인증 링크입니다.");
+        }
 
-            javaMailSender.send(message);
-            System.out.println("인증 이메일이 전송되었습니다.");
+        int updated = userRepository.markEmailVerified(email);
+        log.info("이메일 인증 처리 - email={}, updated={}", email, updated); // 0: 미가입 이메일 또는 이미 인증됨
 
-        } catch (MessagingException | MailException e) {
-            System.err.println("이메일 전송 실패:" + e.getMessage());
-            throw new RuntimeException("이메일 전송 실패", e);
-        }
+        long expiry = claims.getExpiration().getTime() + jwtProvider.getClockSkewMillis();
+        eventPublisher.publishEvent(new EmailVerifiedEvent(claims.getId(), expiry));
     }
 
-    @Override
-    public void verifyEmail(String token) {
-        String email = jwtProvider.getEmailFromJwt(token);
-        System.out.println("token: " + token);
-        System.out.println("이메일 인증이 완료되었습니다. 이메일: " + email);
+    // 인증 커밋 이후 토큰 폐기 - 커밋이 끝난 트랜잭션에는 참여할 수 없으므로 새 트랜잭션에서 revoked_tokens 기록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEmailVerified(EmailVerifiedEvent event) {
+        revocationStore.revoke(event.jti(), event.revokeUntil());
     }
 }
@@ -0,0 +1,165 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.config.MailConfig;
+import com.example.k5_iot_springboot.entity.MailOutbox;
+import com.example.k5_iot_springboot.service.MailOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * === MailOutboxDispatcher ===
+ * : mail_outbox 대기열을 주기적으로 폴링하여 전용 스레드 풀에서 발송
+ *
+ * - 폴링 1회당 (남은 워커 수 * batchSize) 건만 선점 >> 풀이 바쁘면 더 가져오지 않음 (메모리/대기열 보호)
+ * - 워커 1개는 batchSize 건을 JavaMailSender.send(MimeMessage...) 한 번으로 발송
+ *      >> SMTP 연결 + STARTTLS + 인증을 배치당 1회만 수행 (건마다 새 연결 X)
+ * - 일부 실패(MailSendException.getFailedMessages)는 해당 건만 재시도 예약
+ *
+ * # 메트릭 #
+ * - mail.outbox.sent / mail.outbox.retry / mail.outbox.dead
+ * */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService outboxService;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor mailSendExecutor;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    // 실행 중(또는 대기 중)인 배치 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${spring.mail.username}")
+    private String senderEmail;
+
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    public MailOutboxDispatcher(MailOutboxService outboxService,
+                                JavaMailSender mailSender,
+                                @Qualifier(MailConfig.MAIL_SEND_EXECUTOR) ThreadPoolTaskExecutor mailSendExecutor,
+                                MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.mailSender = mailSender;
+        this.mailSendExecutor = mailSendExecutor;
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retryCounter = meterRegistry.counter("mail.outbox.retry");
+        this.deadCounter = meterRegistry.counter("mail.outbox.dead");
+    }
+
+    /** 발송 대상 폴링 */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        int freeWorkers = mailSendExecutor.getMaxPoolSize() - inFlight.get();
+        if(freeWorkers <= 0) return;
+
+        List<MailOutbox> claimed = outboxService.claimDue(freeWorkers * batchSize);
+        for(int from = 0; from < claimed.size(); from += batchSize) {
+            List<MailOutbox> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            inFlight.incrementAndGet();
+            try {
+                mailSendExecutor.execute(() -> {
+                    try {
+                        sendBatch(batch);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // SENDING 상태로 남은 행은 releaseStale 에서 다시 대기 상태로 복구됨 (시도 횟수 +1)
+                inFlight.decrementAndGet();
+                log.warn("[mail-outbox] batch rejected: {} mails", batch.size());
+            }
+        }
+    }
+
+    /** 발송 중 중단된(SENDING 으로 오래 남은) 행 복구 */
+    @Scheduled(fixedDelayString = "${mail.outbox.stale-check-interval-ms:60000}")
+    public void releaseStale() {
+        MailOutboxService.StaleRelease result = outboxService.releaseStale(System.currentTimeMillis() - staleAfterMs);
+        deadCounter.increment(result.dead());
+        if(result.released() + result.dead() > 0) {
+            log.warn("[mail-outbox] stale mails: released={}, dead={}", result.released(), result.dead());
+        }
+    }
+
+    // 배치 발송: 하나의 SMTP 연결로 batch 전체 전송
+    private void sendBatch(List<MailOutbox> batch) {
+        Map<MimeMessage, Long> idByMessage = new IdentityHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+
+        for(MailOutbox mail : batch) {
+            try {
+                idByMessage.put(toMimeMessage(mail), mail.getId());
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+
+        if(!idByMessage.isEmpty()) {
+            try {
+                mailSender.send(idByMessage.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                // 일부(또는 전체) 실패 - 실패한 메시지만 재시도 대상
+                Map<Object, Exception> failed = e.getFailedMessages();
+                if(failed.isEmpty()) {
+                    idByMessage.values().forEach(id -> failures.put(id, e.getMessage()));
+                } else {
+                    failed.forEach((msg, ex) -> {
+                        Long id = idByMessage.get(msg);
+                        if(id != null) failures.put(id, ex.getMessage());
+                    });
+                }
+            } catch (MailException e) {
+                // 인증/연결 실패 등 - 배치 전체 재시도
+                idByMessage.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for(Long id : idByMessage.values()) {
+            if(!failures.containsKey(id)) sentIds.add(id);
+        }
+
+        int dead = outboxService.complete(sentIds, failures);
+        sentCounter.increment(sentIds.size());
+        retryCounter.increment(failures.size() - dead);
+        deadCounter.increment(dead);
+        if(!failures.isEmpty()) log.warn("[mail-outbox] sent={}, failed={}, dead={}", sentIds.size(), failures.size(), dead);
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setFrom(senderEmail);
+        message.setRecipients(MimeMessage.RecipientType.TO, mail.getRecipient());
+        message.setSubject(mail.getSubject(), "UTF-8");
+        message.setText(mail.getBody(), "UTF-8", "html");
+        return message;
+    }
+}
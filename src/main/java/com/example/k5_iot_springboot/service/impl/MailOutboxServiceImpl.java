@@ -0,0 +1,93 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.common.enums.MailStatus;
+import com.example.k5_iot_springboot.entity.MailOutbox;
+import com.example.k5_iot_springboot.repository.MailOutboxRepository;
+import com.example.k5_iot_springboot.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MailOutboxServiceImpl implements MailOutboxService {
+    private final MailOutboxRepository outboxRepository;
+
+    private static final String STALE_ERROR = "발송 중 중단됨 (SENDING 상태로 시간 초과)";
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-ms:30000}")
+    private long backoffMs;
+
+    @Value("${mail.outbox.max-backoff-ms:1800000}")
+    private long maxBackoffMs;
+
+    /** 발송 요청 등록 - INSERT 1회 후 즉시 반환 (실제 발송은 MailOutboxDispatcher) */
+    @Override
+    @Transactional
+    public void enqueue(String recipient, String subject, String htmlBody) {
+        outboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(htmlBody)
+                .build());
+    }
+
+    /** 발송 대상 선점: 행 잠금(SKIP LOCKED) -> SENDING 으로 변경 -> 조회 */
+    @Override
+    @Transactional
+    public List<MailOutbox> claimDue(int limit) {
+        long now = System.currentTimeMillis();
+        List<Long> ids = outboxRepository.lockDueIds(now, limit);
+        if(ids.isEmpty()) return List.of();
+
+        outboxRepository.markClaimed(ids, MailStatus.SENDING, now);
+        return outboxRepository.findAllById(ids);
+    }
+
+    /**
+     * 발송 결과 반영
+     * @param sentIds 발송 성공 id 목록
+     * @param failures 실패 id -> 오류 메시지 (재시도 예약 또는 DEAD)
+     * @return DEAD 로 전환된 건수
+     * */
+    @Override
+    @Transactional
+    public int complete(List<Long> sentIds, Map<Long, String> failures) {
+        List<Long> ids = new ArrayList<>(sentIds);
+        ids.addAll(failures.keySet());
+
+        int dead = 0;
+        for(MailOutbox mail : outboxRepository.findAllById(ids)) {
+            String error = failures.get(mail.getId());
+            if(error == null) {
+                mail.markSent();
+                continue;
+            }
+            mail.markFailed(error, maxAttempts, backoffMs, maxBackoffMs);
+            if(mail.getStatus() == MailStatus.DEAD) dead++;
+        }
+        return dead; // 변경 감지로 UPDATE
+    }
+
+    /**
+     * SENDING 으로 오래 남은 행 복구
+     * - 중단된 발송도 시도 1회로 계산하여 maxAttempts 도달 시 DEAD, 나머지는 즉시 재시도 대상
+     * */
+    @Override
+    @Transactional
+    public StaleRelease releaseStale(long claimedBefore) {
+        int dead = outboxRepository.markStaleDead(
+                MailStatus.SENDING, MailStatus.DEAD, claimedBefore, maxAttempts, STALE_ERROR);
+        int released = outboxRepository.releaseStale(
+                MailStatus.SENDING, MailStatus.PENDING, claimedBefore, System.currentTimeMillis(), STALE_ERROR);
+        return new StaleRelease(released, dead);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.common.enums.OrderStatus;
+import com.example.k5_iot_springboot.entity.OrderNotification;
+import com.example.k5_iot_springboot.event.OrderStatusChangedEvent;
+import com.example.k5_iot_springboot.provider.MailTemplateProvider;
+import com.example.k5_iot_springboot.repository.G_UserRepository;
+import com.example.k5_iot_springboot.repository.OrderNotificationRepository;
+import com.example.k5_iot_springboot.service.MailOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * === OrderStatusNotifier ===
+ * : 주문 상태 변경(승인/취소) 알림 메일 - 사용자 단위로 모아서 1통으로 발송
+ *
+ * - 주문 트랜잭션 커밋 직전(BEFORE_COMMIT)에 order_notifications 1행 INSERT
+ *      >> 주문 변경과 같은 트랜잭션으로 커밋 - 롤백된 변경은 알림 X, 프로세스가 중단되어도 알림 유실 X
+ *      >> not_before = 변경 시각 + window
+ * - 주기 작업에서 not_before 가 지난 사용자별로 대기 알림 전체를 잠금 -> 병합 -> mail_outbox 등록 -> 삭제 (한 트랜잭션)
+ *      >> 같은 주문의 여러 전이(PENDING -> APPROVED -> CANCELED)는 최초 상태 -> 최종 상태 1줄로 합침
+ * - 실제 발송/재시도는 MailOutboxDispatcher 가 처리
+ * */
+@Slf4j
+@Component
+public class OrderStatusNotifier {
+
+    private static final String TEMPLATE = "order-status";
+    private static final String ITEM_TEMPLATE = "order-status-item";
+    private static final int USERS_PER_FLUSH = 100;
+
+    private final OrderNotificationRepository notificationRepository;
+    private final MailOutboxService mailOutboxService;
+    private final MailTemplateProvider mailTemplateProvider;
+    private final G_UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long windowMillis;
+    private final Counter enqueuedCounter;
+
+    public OrderStatusNotifier(
+            OrderNotificationRepository notificationRepository,
+            MailOutboxService mailOutboxService,
+            MailTemplateProvider mailTemplateProvider,
+            G_UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${order.notification.window-ms:30000}") long windowMillis
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.mailOutboxService = mailOutboxService;
+        this.mailTemplateProvider = mailTemplateProvider;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.windowMillis = windowMillis;
+
+        this.enqueuedCounter = Counter.builder("order.notification.enqueued")
+                .description("mail_outbox 에 등록된 주문 상태 알림 메일 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        notificationRepository.save(OrderNotification.builder()
+                .userId(event.userId())
+                .orderId(event.orderId())
+                .fromStatus(event.from())
+                .toStatus(event.to())
+                .notBefore(System.currentTimeMillis() + windowMillis)
+                .build());
+    }
+
+    /** window 가 지난 사용자 알림을 메일로 변환하여 대기열 등록 */
+    @Scheduled(fixedDelayString = "${order.notification.flush-interval-ms:5000}")
+    public void flushDue() {
+        for (Long userId : notificationRepository.findDueUserIds(System.currentTimeMillis(), USERS_PER_FLUSH)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> flushUser(userId));
+            } catch (RuntimeException e) {
+                // 한 사용자의 실패가 나머지 사용자 알림을 막지 않도록 건별 처리 (롤백 - 대기 알림 유지, 다음 window 뒤 재시도)
+                log.warn("주문 상태 알림 등록 실패 - userId={}", userId, e);
+                postpone(userId);
+            }
+        }
+    }
+
+    // 사용자 1명의 대기 알림 전체를 1통으로 등록 - 등록과 삭제가 같은 트랜잭션 (중복/유실 X)
+    private void flushUser(Long userId) {
+        List<OrderNotification> rows = notificationRepository.lockByUserId(userId);
+        if (rows.isEmpty()) return; // 다른 인스턴스가 먼저 처리
+
+        List<Long> ids = rows.stream().map(OrderNotification::getId).toList();
+        List<G_UserRepository.MailRecipientProjection> users = userRepository.findByIdIn(Set.of(userId));
+        PendingNotification p = new PendingNotification();
+        rows.forEach(p::merge);
+        if (!users.isEmpty() && !p.changes.isEmpty()) {
+            MailTemplateProvider.RenderedMail mail = render(users.get(0), p);
+            mailOutboxService.enqueue(users.get(0).getEmail(), mail.subject(), mail.body());
+            enqueuedCounter.increment();
+        }
+        notificationRepository.deleteByIds(ids); // 탈퇴한 사용자 / 원래 상태로 되돌아간 알림은 발송 없이 정리
+    }
+
+    private void postpone(Long userId) {
+        try {
+            long notBefore = System.currentTimeMillis() + windowMillis;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = notificationRepository.lockByUserId(userId).stream()
+                        .map(OrderNotification::getId).toList();
+                if (!ids.isEmpty()) notificationRepository.postpone(ids, notBefore);
+            });
+        } catch (RuntimeException e) {
+            log.warn("주문 상태 알림 재시도 예약 실패 - userId={}", userId, e);
+        }
+    }
+
+    private MailTemplateProvider.RenderedMail render(G_UserRepository.MailRecipientProjection user, PendingNotification p) {
+        List<String> rows = new ArrayList<>(p.changes.size());
+        for (Map.Entry<Long, OrderStatus[]> e : p.changes.entrySet()) {
+            rows.add(mailTemplateProvider.renderFragment(ITEM_TEMPLATE, Locale.KOREAN, Map.of(
+                    "orderId", String.valueOf(e.getKey()),
+                    "from", label(e.getValue()[0]),
+                    "to", label(e.getValue()[1])
+            )));
+        }
+        return mailTemplateProvider.render(TEMPLATE, Locale.KOREAN, Map.of(
+                "nickname", user.getNickname(),
+                "count", String.valueOf(p.changes.size()),
+                "items", String.join("", rows)
+        ));
+    }
+
+    private static String label(OrderStatus status) {
+        return switch (status) {
+            case PENDING -> "주문 대기";
+            case APPROVED -> "승인";
+            case CANCELED -> "취소";
+        };
+    }
+
+    /** 사용자 1명의 대기 알림 병합 - 주문별 [최초 상태, 최종 상태] (id 순 = 변경 순), 최초 == 최종 이면 제외 */
+    private static final class PendingNotification {
+        private final Map<Long, OrderStatus[]> changes = new LinkedHashMap<>();
+        private final Map<Long, OrderStatus> firstFrom = new LinkedHashMap<>();
+
+        void merge(OrderNotification n) {
+            OrderStatus from = firstFrom.computeIfAbsent(n.getOrderId(), id -> n.getFromStatus());
+            if (from == n.getToStatus()) {
+                changes.remove(n.getOrderId());
+                return;
+            }
+            changes.put(n.getOrderId(), new OrderStatus[]{from, n.getToStatus()});
+        }
+    }
+}
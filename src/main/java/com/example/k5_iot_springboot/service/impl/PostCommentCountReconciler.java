@@ -0,0 +1,44 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.repository.D_PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * === PostCommentCountReconciler ===
+ * : posts.comment_count(비정규화 댓글 수) 정합성 보정 작업
+ *
+ * - 평소에는 댓글 생성/삭제 트랜잭션의 상대 UPDATE(+1/-1)로 유지
+ * - 직접 SQL 로 댓글을 넣고/지운 경우 등 어긋난 값을 주기적으로 실제 COUNT 로 교정
+ * - id 범위(batchSize) 단위로 나누어 배치마다 커밋 >> 긴 잠금/대량 undo 로그 방지
+ * - 실행 시간이 길 수 있으므로 스케줄러 스레드 풀(spring.task.scheduling.pool.size)을 2 이상으로 유지 - 다른 주기 작업 지연 방지
+ * */
+@Slf4j
+@Component
+public class PostCommentCountReconciler {
+
+    private final D_PostRepository postRepository;
+    private final int batchSize;
+
+    public PostCommentCountReconciler(
+            D_PostRepository postRepository,
+            @Value("${posts.comment-count.reconcile-batch-size:1000}") int batchSize
+    ) {
+        this.postRepository = postRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /** @return 교정된 게시글 수 */
+    @Scheduled(cron = "${posts.comment-count.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        long maxId = postRepository.findMaxId();
+        int fixed = 0;
+        for (long from = 1; from <= maxId; from += batchSize) {
+            fixed += postRepository.reconcileCommentCounts(from, from + batchSize - 1);
+        }
+        if (fixed > 0) log.warn("[comment-count] reconciled {} posts", fixed);
+        return fixed;
+    }
+}
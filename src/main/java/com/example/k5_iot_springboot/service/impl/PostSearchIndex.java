@@ -0,0 +1,546 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.common.enums.PostSearchScope;
+import com.example.k5_iot_springboot.event.CommentIndexEvent;
+import com.example.k5_iot_springboot.event.PostIndexEvent;
+import com.example.k5_iot_springboot.repository.D_CommentRepository;
+import com.example.k5_iot_springboot.repository.D_PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * === PostSearchIndex ===
+ * : 게시글 제목 / 댓글 내용 검색용 메모리 역색인 (LIKE '%kw%' 전체 스캔 대체)
+ *
+ * [ 토큰화 - n-gram ]
+ * - 정규화(NFKC + 소문자) 후 글자/숫자 연속 구간(단어)마다 1-gram + 2-gram 생성
+ *      ex) "스프링부트" -> 스,프,링,부,트 / 스프,프링,링부,부트
+ *      >> 형태소 분석 없이 한글 부분 문자열 검색 가능 (조사가 붙은 단어도 일치)
+ * - 검색어: 2글자 이상 단어는 2-gram, 1글자 단어는 1-gram 만 사용 - 모든 gram 을 포함한 게시글이 후보(AND)
+ *
+ * [ 일치 확인 ] - gram 교집합은 후보일 뿐 (gram 이 떨어져 있어도 포함) >> 기존 LIKE 검색과 같은 결과가 되도록 확인
+ * - 제목: 색인에 보관한 제목 원문에 검색어가 포함되는지 확인
+ * - 댓글: 후보 게시글로 범위를 좁힌 LIKE 조회 1회 (PK IN 묶음, post_id 인덱스) - 댓글 원문은 메모리에 두지 않음
+ * - 검색어에서 gram 을 만들 수 없으면(기호만 있는 검색어) 제목은 메모리 전체 확인, 댓글은 전체 LIKE 로 처리
+ *
+ * [ 구조 ]
+ * - gram -> (postId -> 출현 횟수) 포스팅 + postId -> 문서(제목/작성자/gram 목록)
+ *      출현 횟수는 int 하나에 (제목 << 16 | 댓글) 로 저장 >> 범위(scope)별 필터/점수 계산
+ * - 검색: 가장 짧은 포스팅부터 교집합 >> 비용은 전체 게시글 수가 아닌 일치 후보 수에 비례
+ * - 점수: 제목 출현 * 3 + 댓글 출현 (동점은 최신 글 우선)
+ * - 최신순 검색(searchLatest): id 커서 이후 후보만 최신순 정렬 >> 댓글 일치 확인도 페이지가 찰 때까지만
+ * - 결과에 필요한 제목/작성자도 색인에 보관 >> 제목 검색은 DB 조회 없음
+ *
+ * [ 갱신 ] - 변경된 부분의 gram 만 빼고 더함 (게시글의 댓글 전체를 다시 읽지 않음)
+ * - 댓글 생성/수정/삭제 커밋 후(CommentIndexEvent): 이벤트에 담긴 이전/새 내용의 gram 차이만 반영 (DB 조회 없음)
+ * - 게시글 생성/수정/삭제 커밋 후(PostIndexEvent): 제목/작성자 1건만 읽어 제목 gram 교체 (삭제된 경우 제거)
+ *      - 색인에 없던 게시글(신규 등)만 댓글까지 읽어 등록
+ * - 횟수가 상한(16bit)에 도달한 gram 은 정확히 뺄 수 없음 >> 해당 게시글만 DB 에서 다시 읽어 교체 (드문 경우)
+ * - 전체 재색인(rebuild): 기동 시 + 관리자 요청 - PK keyset 묶음 조회로 새 색인을 만든 뒤 교체
+ *      >> 재색인 중 변경된 게시글은 교체 후 다시 반영
+ * */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COUNT_BITS = 16;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    private static final int STRIPES = 64;
+    private static final int VERIFY_BATCH_SIZE = 1000; // 댓글 일치 확인 IN 목록 최대 크기
+    private static final Comparator<Hit> LATEST = Comparator.comparingLong(Hit::postId).reversed();
+
+    private final D_PostRepository postRepository;
+    private final D_CommentRepository commentRepository;
+    private final int batchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData(); // lock 으로 보호
+
+    // 같은 게시글의 "DB 읽기 -> 색인 반영" 을 직렬화 (늦게 읽은 값이 먼저 반영되는 역전 방지)
+    private final Object[] stripes = new Object[STRIPES];
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public PostSearchIndex(
+            D_PostRepository postRepository,
+            D_CommentRepository commentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${search.posts.rebuild-batch-size:500}") int batchSize
+    ) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.batchSize = Math.max(1, batchSize);
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Object();
+
+        Gauge.builder("search.posts.documents", this, PostSearchIndex::documentCount)
+                .description("검색 색인에 등록된 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("search.posts.grams", this, PostSearchIndex::gramCount)
+                .description("검색 색인의 gram 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostIndexEvent event) {
+        if (rebuilding.get()) changedDuringRebuild.add(event.postId());
+        refreshPost(event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentIndexEvent event) {
+        if (rebuilding.get()) changedDuringRebuild.add(event.postId());
+        applyComment(event.postId(), event.oldContent(), event.newContent());
+    }
+
+    /**
+     * 검색 (관련도순 페이지)
+     * @param keyword 검색어 (부분 문자열, 대소문자 무시)
+     * @param offset 건너뛸 결과 수 (0 이상, 결과 수보다 크면 빈 페이지), limit 최대 반환 수
+     * */
+    public Result search(String keyword, PostSearchScope scope, long offset, int limit) {
+        if (offset < 0 || limit < 0) throw new IllegalArgumentException("offset/limit 는 0 이상이어야합니다.");
+        String normalized = normalize(keyword).trim();
+        if (normalized.isEmpty()) return new Result(List.of(), 0);
+        Set<String> grams = queryGrams(normalized);
+        List<Candidate> candidates = collect(normalized, grams, scope);
+
+        // 댓글 일치 확인 (잠금 밖 DB 조회) - 제목으로 이미 일치한 후보는 제외
+        List<Hit> hits = new ArrayList<>(candidates.size());
+        if (scope == PostSearchScope.TITLE) {
+            for (Candidate c : candidates) hits.add(c.hit);
+        } else {
+            Set<Long> commentMatched = commentMatches(keyword.trim(), candidates, grams.isEmpty());
+            for (Candidate c : candidates) {
+                if (c.titleMatched || commentMatched.contains(c.hit.postId())) hits.add(c.hit);
+            }
+        }
+
+        hits.sort(Comparator.comparingInt(Hit::score).reversed().thenComparing(LATEST));
+
+        int from = (int) Math.min(offset, hits.size());
+        int to = (int) Math.min((long) from + limit, hits.size());
+        return new Result(List.copyOf(hits.subList(from, to)), hits.size());
+    }
+
+    /**
+     * 검색 (최신순 keyset 페이지) - 전체 건수 없이 limit 건만 반환
+     * @param beforeId 이 id 보다 오래된 게시글부터 (null 이면 최신부터)
+     * - 후보를 최신순으로 정렬한 뒤 댓글 일치 확인은 앞에서부터 묶음 단위로 limit 건이 찰 때까지만 실행
+     * */
+    public List<Hit> searchLatest(String keyword, PostSearchScope scope, Long beforeId, int limit) {
+        String normalized = normalize(keyword).trim();
+        if (normalized.isEmpty() || limit <= 0) return List.of();
+        Set<String> grams = queryGrams(normalized);
+        List<Candidate> candidates = collect(normalized, grams, scope);
+        if (beforeId != null) candidates.removeIf(c -> c.hit.postId() >= beforeId);
+        candidates.sort(Comparator.comparing(Candidate::hit, LATEST));
+
+        List<Hit> hits = new ArrayList<>(Math.min(limit, candidates.size()));
+        if (scope == PostSearchScope.TITLE) {
+            for (Candidate c : candidates) {
+                if (hits.size() == limit) break;
+                hits.add(c.hit);
+            }
+            return hits;
+        }
+
+        Set<Long> allMatched = grams.isEmpty() ? commentMatches(keyword.trim(), candidates, true) : null;
+        for (int i = 0; i < candidates.size() && hits.size() < limit; i += VERIFY_BATCH_SIZE) {
+            List<Candidate> batch = candidates.subList(i, Math.min(i + VERIFY_BATCH_SIZE, candidates.size()));
+            Set<Long> matched = (allMatched != null) ? allMatched : commentMatches(keyword.trim(), batch, false);
+            for (Candidate c : batch) {
+                if (hits.size() == limit) break;
+                if (c.titleMatched || matched.contains(c.hit.postId())) hits.add(c.hit);
+            }
+        }
+        return hits;
+    }
+
+    // 후보 수집 (읽기 잠금 안) - 제목 일치 여부는 원문으로 확인
+    private List<Candidate> collect(String normalized, Set<String> grams, PostSearchScope scope) {
+        List<Candidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (grams.isEmpty()) {
+                collectAll(normalized, scope, candidates);
+            } else {
+                collectByGrams(grams, normalized, scope, candidates);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates;
+    }
+
+    // 가장 짧은 포스팅부터 교집합 - 범위(scope)의 모든 gram 을 포함한 게시글만 후보
+    private void collectByGrams(Set<String> grams, String normalized, PostSearchScope scope, List<Candidate> into) {
+        List<Map<Long, Integer>> postings = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Map<Long, Integer> posting = data.postings.get(gram);
+            if (posting == null) return;
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Map::size));
+        List<Map<Long, Integer>> others = postings.subList(1, postings.size());
+
+        candidates:
+        for (Map.Entry<Long, Integer> candidate : postings.get(0).entrySet()) {
+            Long postId = candidate.getKey();
+            int score = score(candidate.getValue(), scope);
+            if (score == 0) continue;
+            for (Map<Long, Integer> posting : others) {
+                Integer packed = posting.get(postId);
+                int s = (packed == null) ? 0 : score(packed, scope);
+                if (s == 0) continue candidates;
+                score += s;
+            }
+            Document doc = data.documents.get(postId);
+            boolean titleMatched = scope != PostSearchScope.COMMENT && normalize(doc.title).contains(normalized);
+            if (scope == PostSearchScope.TITLE && !titleMatched) continue;
+            into.add(new Candidate(new Hit(postId, doc.title, doc.author, score), titleMatched));
+        }
+    }
+
+    // gram 이 없는 검색어 - 제목은 전체 문서 확인, 댓글 범위면 모든 문서가 후보 (댓글 확인은 전체 LIKE)
+    private void collectAll(String normalized, PostSearchScope scope, List<Candidate> into) {
+        data.documents.forEach((postId, doc) -> {
+            boolean titleMatched = scope != PostSearchScope.COMMENT && normalize(doc.title).contains(normalized);
+            if (scope == PostSearchScope.TITLE && !titleMatched) return;
+            into.add(new Candidate(new Hit(postId, doc.title, doc.author, 1), titleMatched));
+        });
+    }
+
+    // 댓글에 검색어가 포함된 게시글 id - 후보로 좁힌 범위만 PK IN 묶음으로 확인
+    private Set<Long> commentMatches(String keyword, List<Candidate> candidates, boolean scanAll) {
+        if (scanAll) return new HashSet<>(commentRepository.findPostIdsByCommentKeyword(keyword));
+
+        List<Long> ids = candidates.stream().filter(c -> !c.titleMatched).map(c -> c.hit.postId()).toList();
+        Set<Long> matched = new HashSet<>();
+        for (int i = 0; i < ids.size(); i += VERIFY_BATCH_SIZE) {
+            matched.addAll(commentRepository.findPostIdsWithCommentContaining(
+                    ids.subList(i, Math.min(i + VERIFY_BATCH_SIZE, ids.size())), keyword));
+        }
+        return matched;
+    }
+
+    /** 게시글 제목/작성자 반영 - 1건만 조회, 색인에 없던 게시글은 댓글까지 읽어 등록 */
+    public void refreshPost(Long postId) {
+        synchronized (stripe(postId)) {
+            var row = postRepository.findIndexRowById(postId).orElse(null);
+            if (row == null) {
+                write(d -> d.remove(postId));
+                return;
+            }
+            if (!writeAndGet(d -> d.replaceTitle(postId, row.getTitle(), row.getAuthor()))) reindex(postId);
+        }
+    }
+
+    /**
+     * 댓글 1건 변경 반영 - 이전 내용의 gram 을 빼고 새 내용의 gram 을 더함 (DB 조회 없음)
+     * @param oldContent 이전 내용 (생성이면 null), newContent 새 내용 (삭제면 null)
+     * cf) 더하고 빼는 순서와 무관하게 같은 결과 >> 커밋 후 이벤트 처리 순서가 바뀌어도 누적 결과 동일
+     * */
+    public void applyComment(Long postId, String oldContent, String newContent) {
+        Map<String, Integer> delta = new HashMap<>();
+        if (newContent != null) addGrams(newContent, 0, delta);
+        if (oldContent != null) {
+            Map<String, Integer> removed = new HashMap<>();
+            addGrams(oldContent, 0, removed);
+            removed.forEach((gram, n) -> delta.merge(gram, -n, Integer::sum));
+        }
+        delta.values().removeIf(n -> n == 0);
+        if (delta.isEmpty()) return;
+
+        synchronized (stripe(postId)) {
+            // 색인에 없는 게시글이거나 상한에 도달한 gram 을 빼야 하는 경우 - DB 기준으로 교체
+            if (!writeAndGet(d -> d.adjustComments(postId, delta))) reindex(postId);
+        }
+    }
+
+    /**
+     * 이벤트 없이 DB 에 직접 반영된 변경(댓글 일괄 등록 등) 재색인 - 커밋 후 호출
+     * - 전체 재색인 중이면 교체 후 다시 반영되도록 표시 (이벤트 리스너와 동일)
+     * */
+    public void reindexChanged(Collection<Long> postIds) {
+        for (Long postId : postIds) {
+            if (rebuilding.get()) changedDuringRebuild.add(postId);
+            reindex(postId);
+        }
+    }
+
+    /** 게시글 1건 재색인 - DB 의 현재 상태(제목 + 댓글 전체)로 교체 (없으면 제거) */
+    public void reindex(Long postId) {
+        synchronized (stripe(postId)) {
+            var row = postRepository.findIndexRowById(postId).orElse(null);
+            if (row == null) {
+                write(d -> d.remove(postId));
+                return;
+            }
+            List<String> comments = commentRepository.findContentsByPostIds(List.of(postId)).stream()
+                    .map(D_CommentRepository.CommentContentProjection::getContent)
+                    .toList();
+            Document doc = Document.of(row.getTitle(), row.getAuthor(), comments);
+            write(d -> d.put(postId, doc));
+        }
+    }
+
+    /**
+     * 전체 재색인 - 기존 색인은 교체 직전까지 그대로 검색에 사용
+     * @return 색인된 게시글 수 (이미 재색인 중이면 -1)
+     * */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return -1;
+        long started = System.currentTimeMillis();
+        try {
+            IndexData fresh = new IndexData();
+            long afterId = 0;
+            while (true) {
+                List<D_PostRepository.PostListProjection> rows = postRepository.findIndexRows(afterId, batchSize);
+                if (rows.isEmpty()) break;
+
+                Map<Long, List<String>> commentsByPost = new HashMap<>();
+                for (var c : commentRepository.findContentsByPostIds(rows.stream().map(D_PostRepository.PostListProjection::getId).toList())) {
+                    commentsByPost.computeIfAbsent(c.getPostId(), id -> new ArrayList<>()).add(c.getContent());
+                }
+                for (var row : rows) {
+                    fresh.put(row.getId(), Document.of(row.getTitle(), row.getAuthor(), commentsByPost.getOrDefault(row.getId(), List.of())));
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+
+        // 재색인 중 변경된 게시글은 새 색인에 누락/이전 값일 수 있으므로 다시 반영
+        for (Long postId : changedDuringRebuild) {
+            changedDuringRebuild.remove(postId);
+            reindex(postId);
+        }
+
+        int count = documentCount();
+        log.info("[post-search] rebuilt {} posts in {} ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+
+    private Object stripe(Long postId) {
+        return stripes[Math.floorMod(postId.hashCode(), STRIPES)];
+    }
+
+    private void write(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean writeAndGet(Predicate<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            return change.test(data);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int documentCount() {
+        lock.readLock().lock();
+        try {
+            return data.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int gramCount() {
+        lock.readLock().lock();
+        try {
+            return data.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int score(int packed, PostSearchScope scope) {
+        int title = packed >>> COUNT_BITS;
+        int comment = packed & COUNT_MASK;
+        return switch (scope) {
+            case TITLE -> title * TITLE_WEIGHT;
+            case COMMENT -> comment;
+            case ALL -> title * TITLE_WEIGHT + comment;
+        };
+    }
+
+    private static String normalize(String text) {
+        return (text == null) ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 색인용 gram 추출 - 단어마다 1-gram + 2-gram, 출현 횟수를 shift 위치에 누적 */
+    private static void addGrams(String text, int shift, Map<String, Integer> into) {
+        String s = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= s.length(); i++) {
+            boolean wordChar = i < s.length() && Character.isLetterOrDigit(s.charAt(i));
+            if (wordChar) {
+                if (start < 0) start = i;
+                into.merge(s.substring(i, i + 1), 1 << shift, PostSearchIndex::addCapped);
+                if (i > start) into.merge(s.substring(i - 1, i + 1), 1 << shift, PostSearchIndex::addCapped);
+            } else {
+                start = -1;
+            }
+        }
+    }
+
+    /** (제목 << 16 | 댓글) 각 부분이 넘치지 않도록 상한 고정 */
+    private static int addCapped(int cur, int inc) {
+        int title = Math.min(COUNT_MASK, (cur >>> COUNT_BITS) + (inc >>> COUNT_BITS));
+        int comment = Math.min(COUNT_MASK, (cur & COUNT_MASK) + (inc & COUNT_MASK));
+        return (title << COUNT_BITS) | comment;
+    }
+
+    /** 검색어 gram - 2글자 이상 단어는 2-gram 만 (선택도가 높음), 1글자 단어는 1-gram */
+    private static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (start < 0) start = i;
+                if (i > start) grams.add(normalized.substring(i - 1, i + 1));
+            } else {
+                if (start >= 0 && i - start == 1) grams.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return grams;
+    }
+
+    /** 검색 결과 1건 */
+    public record Hit(Long postId, String title, String author, int score) {}
+
+    /** 일치 확인 전 후보 - titleMatched: 제목 원문에 검색어 포함 (댓글 확인 불필요) */
+    private record Candidate(Hit hit, boolean titleMatched) {}
+
+    /** 검색 결과 페이지 + 전체 일치 건수 */
+    public record Result(List<Hit> hits, int totalCount) {}
+
+    private record Document(String title, String author, Map<String, Integer> grams) {
+        static Document of(String title, String author, List<String> comments) {
+            Map<String, Integer> grams = new HashMap<>();
+            addGrams(title, COUNT_BITS, grams);
+            for (String comment : comments) addGrams(comment, 0, grams);
+            return new Document(title, author, grams);
+        }
+    }
+
+    /** 포스팅 + 문서 - 교체(rebuild) 단위 */
+    private static final class IndexData {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        void put(Long postId, Document doc) {
+            remove(postId);
+            documents.put(postId, doc);
+            doc.grams.forEach((gram, packed) -> postings.computeIfAbsent(gram, g -> new HashMap<>()).put(postId, packed));
+        }
+
+        /** 제목 gram 교체 (댓글 횟수는 유지) - 색인에 없는 게시글이면 false */
+        boolean replaceTitle(Long postId, String title, String author) {
+            Document doc = documents.get(postId);
+            if (doc == null) return false;
+
+            Map<String, Integer> delta = new HashMap<>();
+            addGrams(title, 0, delta);
+            Map<String, Integer> removed = new HashMap<>();
+            addGrams(doc.title, 0, removed);
+            removed.forEach((gram, n) -> delta.merge(gram, -n, Integer::sum));
+
+            delta.forEach((gram, n) -> {
+                if (n == 0) return;
+                int cur = doc.grams.getOrDefault(gram, 0);
+                int titleCount = Math.max(0, Math.min(COUNT_MASK, (cur >>> COUNT_BITS) + n));
+                setGram(postId, doc, gram, (titleCount << COUNT_BITS) | (cur & COUNT_MASK));
+            });
+            documents.put(postId, new Document(title, author, doc.grams));
+            return true;
+        }
+
+        /** 댓글 gram 횟수 증감 - 색인에 없는 게시글이거나 상한에 도달한 gram 을 빼야 하면 false (변경 없음) */
+        boolean adjustComments(Long postId, Map<String, Integer> delta) {
+            Document doc = documents.get(postId);
+            if (doc == null) return false;
+            for (Map.Entry<String, Integer> e : delta.entrySet()) {
+                if (e.getValue() < 0 && (doc.grams.getOrDefault(e.getKey(), 0) & COUNT_MASK) == COUNT_MASK) return false;
+            }
+            delta.forEach((gram, n) -> {
+                int cur = doc.grams.getOrDefault(gram, 0);
+                int commentCount = Math.max(0, Math.min(COUNT_MASK, (cur & COUNT_MASK) + n));
+                setGram(postId, doc, gram, (cur & ~COUNT_MASK) | commentCount);
+            });
+            return true;
+        }
+
+        private void setGram(Long postId, Document doc, String gram, int packed) {
+            if (packed != 0) {
+                doc.grams.put(gram, packed);
+                postings.computeIfAbsent(gram, g -> new HashMap<>()).put(postId, packed);
+                return;
+            }
+            doc.grams.remove(gram);
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) return;
+            posting.remove(postId);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+
+        void remove(Long postId) {
+            Document old = documents.remove(postId);
+            if (old == null) return;
+            for (String gram : old.grams.keySet()) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) continue;
+                posting.remove(postId);
+                if (posting.isEmpty()) postings.remove(gram);
+            }
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.example.k5_iot_springboot.service.impl;
 
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.common.pagination.PageLimits;
+import com.example.k5_iot_springboot.dto.CursorPage;
 import com.example.k5_iot_springboot.dto.Reservation.ReservationResponseDto;
 import com.example.k5_iot_springboot.dto.ResponseDto;
 import com.example.k5_iot_springboot.entity.Reservation;
 import com.example.k5_iot_springboot.repository.ReservationRepository;
 import com.example.k5_iot_springboot.service.ReservationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,11 +23,14 @@ public class ReservationServiceImpl implements ReservationService {
     private final ReservationRepository reservationRepository;
 
     @Override
-    public ResponseDto<List<ReservationResponseDto>> getReservationsByTruck(Long truckId) {
-        List<Reservation> reservations = reservationRepository.findByTruckId(truckId);
-        List<ReservationResponseDto> dtos = reservations.stream()
-                .map(ReservationResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    public ResponseDto<CursorPage<ReservationResponseDto>> getReservationsByTruck(Long truckId, String cursor, Integer size) {
+        // 트럭별 최신순 keyset 페이지 - size + 1 건만 조회
+        int limit = PageLimits.clamp(size);
+        Long afterId = KeysetCursor.idOf(cursor);
+        List<Reservation> reservations = (afterId == null)
+                ? reservationRepository.findByTruckIdOrderByIdDesc(truckId, Limit.of(limit + 1))
+                : reservationRepository.findByTruckIdAndIdLessThanOrderByIdDesc(truckId, afterId, Limit.of(limit + 1));
+        CursorPage<ReservationResponseDto> dtos = CursorPage.of(reservations, limit, ReservationResponseDto::fromEntity, Reservation::getId);
 
         return ResponseDto.setSuccess("SUCCESS", dtos);
     }
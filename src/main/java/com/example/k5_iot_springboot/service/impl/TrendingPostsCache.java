@@ -0,0 +1,183 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.dto.D_Post.response.PostWithCommentCountResponseDto;
+import com.example.k5_iot_springboot.event.CommentCountChangedEvent;
+import com.example.k5_iot_springboot.event.PostIndexEvent;
+import com.example.k5_iot_springboot.repository.D_PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * === TrendingPostsCache ===
+ * : 댓글 수 상위 게시글(인기글) 메모리 캐시 - 조회시 DB 쿼리 0회
+ *
+ * [ 구조 ]
+ * - 상위 capacity(= topK * 4) 건만 추적: 정렬 집합(TreeSet, 댓글 수 desc, id desc) + id -> 항목 맵
+ * - outsideMax: 추적 집합 밖 게시글의 댓글 수 상한
+ *      >> 추적 중인 게시글의 댓글 수가 이 값보다 작아지면 순위를 보장할 수 없으므로 추적에서 제외
+ *      >> 추적 수가 topK 미만이 되면 DB 에서 다시 채움 (드문 경우)
+ * - 조회: 변경시마다 만들어 두는 불변 상위 topK 목록(volatile) 을 그대로 반환 >> 락 없음
+ *
+ * [ 갱신 ]
+ * - 댓글 생성/삭제 커밋 후(CommentCountChangedEvent): 추적 중이면 메모리에서 증감
+ *      , 추적 밖 게시글의 증가는 PK 1건 조회로 현재 댓글 수를 확인하여 진입 여부 결정
+ * - 게시글 수정/삭제 커밋 후(PostIndexEvent): 추적 중인 게시글만 제목/작성자 재조회 (삭제면 제외)
+ * - 주기적 재동기화(reconcile) + 기동 시 초기 적재: 상위 (capacity + 1) 건 조회 1회
+ *      >> 재동기화 사이 이벤트 경합으로 생길 수 있는 오차를 교정
+ * */
+@Component
+public class TrendingPostsCache {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::commentCount).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+
+    private final D_PostRepository postRepository;
+    private final int topK;
+    private final int capacity;
+
+    // this 로 보호
+    private final TreeSet<Entry> ranking = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> members = new HashMap<>();
+    private long outsideMax;
+
+    private volatile List<PostWithCommentCountResponseDto> snapshot = List.of();
+
+    public TrendingPostsCache(
+            D_PostRepository postRepository,
+            @Value("${posts.trending.top-k:5}") int topK
+    ) {
+        this.postRepository = postRepository;
+        this.topK = Math.max(1, topK);
+        this.capacity = this.topK * 4;
+    }
+
+    /** 상위 topK 게시글 (댓글 수 desc, id desc) */
+    public List<PostWithCommentCountResponseDto> top() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /** DB 기준 재동기화 - 조회는 락 밖에서 수행하고 교체만 락 안에서 */
+    @Scheduled(fixedDelayString = "${posts.trending.reconcile-interval-ms:300000}", initialDelayString = "${posts.trending.reconcile-interval-ms:300000}")
+    public void reload() {
+        var rows = postRepository.findTopPostsByCommentCount_Native(capacity + 1);
+        synchronized (this) {
+            ranking.clear();
+            members.clear();
+            for (int i = 0; i < Math.min(rows.size(), capacity); i++) {
+                add(Entry.from(rows.get(i)));
+            }
+            outsideMax = (rows.size() > capacity) ? nullToZero(rows.get(capacity).getCommentCount()) : 0;
+            publish();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        Long postId = event.postId();
+        boolean lookup = false;
+        boolean underflow = false;
+
+        synchronized (this) {
+            Entry cur = members.get(postId);
+            if (cur != null) {
+                Entry next = cur.withCount(Math.max(0, cur.commentCount + event.delta()));
+                remove(cur);
+                if (next.commentCount >= outsideMax) add(next);
+                underflow = members.size() < topK;
+                publish();
+            } else {
+                lookup = event.delta() > 0;
+            }
+        }
+
+        if (underflow) {
+            reload();
+        } else if (lookup) {
+            // 추적 밖 게시글: 현재 댓글 수를 확인 후 진입 시도
+            postRepository.findCommentCountRowById(postId).ifPresent(row -> offer(Entry.from(row)));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostIndexEvent event) {
+        synchronized (this) {
+            if (!members.containsKey(event.postId())) return;
+        }
+
+        var row = postRepository.findCommentCountRowById(event.postId()).orElse(null);
+        boolean underflow;
+        synchronized (this) {
+            Entry cur = members.get(event.postId());
+            if (cur == null) return;
+            remove(cur);
+            if (row != null) add(Entry.from(row)); // 제목/작성자 변경 반영
+            underflow = members.size() < topK;
+            publish();
+        }
+        if (underflow) reload();
+    }
+
+    private synchronized void offer(Entry entry) {
+        if (members.containsKey(entry.id)) return; // 그 사이 다른 이벤트로 이미 추적됨
+
+        if (members.size() < capacity || RANKING.compare(entry, ranking.last()) < 0) {
+            add(entry);
+            if (members.size() > capacity) {
+                Entry evicted = ranking.pollLast();
+                members.remove(evicted.id);
+                outsideMax = Math.max(outsideMax, evicted.commentCount);
+            }
+            publish();
+        } else {
+            outsideMax = Math.max(outsideMax, entry.commentCount);
+        }
+    }
+
+    private void add(Entry entry) {
+        ranking.add(entry);
+        members.put(entry.id, entry);
+    }
+
+    private void remove(Entry entry) {
+        ranking.remove(entry);
+        members.remove(entry.id);
+    }
+
+    private void publish() {
+        snapshot = ranking.stream()
+                .limit(topK)
+                .map(e -> new PostWithCommentCountResponseDto(e.id, e.title, e.author, e.commentCount))
+                .toList();
+    }
+
+    private static long nullToZero(Long value) {
+        return (value == null) ? 0 : value;
+    }
+
+    private record Entry(Long id, String title, String author, long commentCount) {
+        static Entry from(D_PostRepository.PostWithCommentCountProjection p) {
+            return new Entry(p.getPostId(), p.getTitle(), p.getAuthor(), nullToZero(p.getCommentCount()));
+        }
+
+        Entry withCount(long count) {
+            return new Entry(id, title, author, count);
+        }
+    }
+}
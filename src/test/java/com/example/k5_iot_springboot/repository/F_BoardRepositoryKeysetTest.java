@@ -0,0 +1,133 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.common.enums.BoardSortKey;
+import com.example.k5_iot_springboot.common.pagination.KeysetCursor;
+import com.example.k5_iot_springboot.repository.F_BoardRepositoryCustom.SummaryRow;
+import com.example.k5_iot_springboot.support.MySqlJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시판 목록 findSummaries 의 seek(keyset) 조회 검증
+ * - 비용: 깊은 위치에서 seek 와 OFFSET(setFirstResult) 의 읽은 행 수 비교 (SHOW SESSION STATUS 의 Handler_read_*)
+ *      >> PK 정렬(BoardSortKey.ID)로 비교 - 나머지 정렬 기준의 커버링 인덱스는 query2.sql 에만 있고 테스트 스키마(create-drop)에는 없음
+ * - 정확성: 동순위(같은 title/created_at/updated_at)가 많은 데이터에서 모든 정렬 기준 x 방향으로
+ *      커서 인코딩 -> 디코딩 -> 다음 페이지를 반복한 결과가 전체 정렬 조회와 같은지 (중복/누락 없음)
+ * */
+@MySqlJpaTest
+class F_BoardRepositoryKeysetTest {
+
+    private static final int BENCH_ROWS = 3000;
+    private static final int DEEP_OFFSET = 2500;
+    private static final int PAGE_SIZE = 20;
+
+    private static final int TIE_ROWS = 37;
+    private static final int TIE_PAGE_SIZE = 5;
+
+    @Autowired F_BoardRepository boardRepository;
+    @Autowired TestEntityManager em;
+
+    @Test
+    void deepPage_seekReadsOnlyThePage_offsetReadsEverySkippedRow() {
+        seedBoards(BENCH_ROWS);
+
+        // OFFSET 위치의 직전 행 = seek 기준 행 (같은 페이지를 두 방식으로 조회)
+        List<SummaryRow> all = boardRepository.findSummaries(BoardSortKey.ID, Sort.Direction.DESC, null, 0, BENCH_ROWS);
+        SummaryRow anchor = all.get(DEEP_OFFSET - 1);
+
+        long overhead = handlerReadsOf(() -> {}); // SHOW STATUS 자체가 읽는 양
+        List<SummaryRow> byOffset = new ArrayList<>();
+        List<SummaryRow> bySeek = new ArrayList<>();
+
+        long offsetReads = handlerReadsOf(() -> byOffset.addAll(
+                boardRepository.findSummaries(BoardSortKey.ID, Sort.Direction.DESC, null, DEEP_OFFSET, PAGE_SIZE))) - overhead;
+        long seekReads = handlerReadsOf(() -> bySeek.addAll(
+                boardRepository.findSummaries(BoardSortKey.ID, Sort.Direction.DESC, anchor, 0, PAGE_SIZE))) - overhead;
+
+        assertThat(bySeek).extracting(SummaryRow::id).containsExactlyElementsOf(byOffset.stream().map(SummaryRow::id).toList());
+        assertThat(offsetReads).isGreaterThanOrEqualTo(DEEP_OFFSET); // 건너뛴 행을 모두 읽음
+        assertThat(seekReads).isLessThanOrEqualTo(PAGE_SIZE * 2L); // 기준 위치 탐색 + 페이지 행만
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("sortKeysAndDirections")
+    void cursorRoundTrip_acrossTies_matchesFullOrder(BoardSortKey key, Sort.Direction direction) {
+        seedBoards(TIE_ROWS);
+
+        List<Long> expected = boardRepository.findSummaries(key, direction, null, 0, TIE_ROWS).stream()
+                .map(SummaryRow::id).toList();
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            SummaryRow after = null;
+            if (cursor != null) {
+                KeysetCursor decoded = KeysetCursor.decode(cursor, key.getProperty(), direction);
+                after = new SummaryRow(decoded.id(), null, null, key.parseValue(decoded.value()));
+            }
+            List<SummaryRow> rows = boardRepository.findSummaries(key, direction, after, 0, TIE_PAGE_SIZE + 1);
+            boolean hasNext = rows.size() > TIE_PAGE_SIZE;
+            if (hasNext) rows = rows.subList(0, TIE_PAGE_SIZE);
+            rows.forEach(r -> paged.add(r.id()));
+
+            SummaryRow last = rows.get(rows.size() - 1);
+            cursor = hasNext
+                    ? new KeysetCursor(key.getProperty(), direction, last.id(), key.formatValue(last.sortValue())).encode()
+                    : null;
+        } while (cursor != null);
+
+        assertThat(expected).hasSize(TIE_ROWS);
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    static Stream<Arguments> sortKeysAndDirections() {
+        return Stream.of(BoardSortKey.values())
+                .flatMap(key -> Stream.of(Sort.Direction.values()).map(dir -> Arguments.of(key, dir)));
+    }
+
+    // 동순위가 많도록 정렬 값을 적은 종류로 반복 (title 3종, created_at 4종, updated_at 5종 - 마이크로초 포함)
+    //      >> 페이지 경계가 동순위 묶음 중간에 걸림 (커서의 id 동순위 비교 검증)
+    private void seedBoards(int count) {
+        EntityManager entityManager = em.getEntityManager();
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sql.append(sql.isEmpty() ? "INSERT INTO boards (title, content, created_at, updated_at) VALUES " : ", ")
+                    .append("('제목 ").append(i % 3).append("', '내용', ")
+                    .append("'2025-01-01 10:00:0").append(i % 4).append(".123456', ")
+                    .append("'2025-01-02 10:00:0").append(i % 5).append(".000500')");
+            if ((i + 1) % 500 == 0 || i == count - 1) {
+                entityManager.createNativeQuery(sql.toString()).executeUpdate();
+                sql.setLength(0);
+            }
+        }
+    }
+
+    // 같은 세션(커넥션)의 Handler_read_* 합계 변화량 - 스토리지 엔진에서 읽은 행/인덱스 항목 수
+    private long handlerReadsOf(Runnable query) {
+        long before = handlerReads();
+        query.run();
+        return handlerReads() - before;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long handlerReads() {
+        List<Object[]> rows = em.getEntityManager()
+                .createNativeQuery("SHOW SESSION STATUS LIKE 'Handler_read%'")
+                .getResultList();
+        long sum = 0;
+        for (Object[] row : rows) sum += Long.parseLong(row[1].toString());
+        return sum;
+    }
+}
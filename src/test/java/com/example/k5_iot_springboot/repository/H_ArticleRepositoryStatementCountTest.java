@@ -0,0 +1,69 @@
+package com.example.k5_iot_springboot.repository;
+
+import com.example.k5_iot_springboot.dto.H_Article.response.ArticleListResponse;
+import com.example.k5_iot_springboot.entity.G_User;
+import com.example.k5_iot_springboot.entity.H_Article;
+import com.example.k5_iot_springboot.support.MySqlJpaTest;
+import com.example.k5_iot_springboot.support.StatementCounter;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 keyset 조회가 페이지당 쿼리 1회인지 검증
+ * - 게시글마다 작성자가 다르게 seed >> 작성자 지연 로딩(N+1)이 있으면 쿼리 수가 페이지 크기만큼 늘어남
+ * - 첫 페이지(findListPage)와 이후 페이지(findListPageBefore) 모두 확인
+ * */
+@MySqlJpaTest
+class H_ArticleRepositoryStatementCountTest {
+
+    private static final int ARTICLES = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired H_ArticleRepository articleRepository;
+    @Autowired G_UserRepository userRepository;
+    @Autowired StatementCounter statementCounter;
+
+    @Test
+    void listPages_runOneStatementPerPage() {
+        seedArticlesWithDistinctAuthors(ARTICLES);
+
+        List<ArticleListResponse> all = new ArrayList<>();
+        Long cursorId = null;
+        int pages = 0;
+        do {
+            Statistics stats = statementCounter.start();
+            List<ArticleListResponse> page = articleRepository.findListKeysetPage(cursorId, PAGE_SIZE);
+
+            assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(stats.getEntityLoadCount()).isZero(); // DTO 직접 조회 - 엔티티/작성자 적재 없음
+
+            all.addAll(page);
+            cursorId = page.isEmpty() ? null : page.get(page.size() - 1).id();
+            pages++;
+        } while (cursorId != null && all.size() < ARTICLES);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(all).hasSize(ARTICLES);
+        assertThat(all).extracting(ArticleListResponse::id).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(all).extracting(ArticleListResponse::authorLoginId).doesNotHaveDuplicates();
+    }
+
+    private void seedArticlesWithDistinctAuthors(int count) {
+        for(int i = 0; i < count; i++) {
+            G_User author = userRepository.save(G_User.builder()
+                    .loginId("author" + i)
+                    .password("password")
+                    .email("author" + i + "@test.local")
+                    .nickname("작성자" + i)
+                    .build());
+            articleRepository.save(H_Article.create("제목 " + i, "본문 " + i, author));
+        }
+        statementCounter.flushAndClear();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.dto.D_Comment.request.CommentCreateRequestDto;
+import com.example.k5_iot_springboot.dto.D_Comment.request.CommentUpdateRequestDto;
+import com.example.k5_iot_springboot.entity.D_Comment;
+import com.example.k5_iot_springboot.entity.D_Post;
+import com.example.k5_iot_springboot.repository.D_CommentRepository;
+import com.example.k5_iot_springboot.repository.D_PostRepository;
+import com.example.k5_iot_springboot.service.D_CommentService;
+import com.example.k5_iot_springboot.support.MySqlJpaTest;
+import com.example.k5_iot_springboot.support.StatementCounter;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 생성/수정/삭제의 SQL 실행 횟수가 게시글의 댓글 수와 무관하게 고정인지 검증
+ * - 댓글 N 건이 달린 게시글에서 N 을 바꿔가며 같은 횟수가 나오는지 확인 (댓글 컬렉션 로딩이 없어야 함)
+ * - 생성 2회 (댓글 수 UPDATE + INSERT)
+ * - 수정 2회 (행 잠금 SELECT + UPDATE)
+ * - 삭제 3회 (행 잠금 SELECT + DELETE + 댓글 수 UPDATE)
+ * */
+@MySqlJpaTest
+@Import(D_CommentServiceImpl.class)
+class D_CommentServiceStatementCountTest {
+
+    @Autowired D_CommentService commentService;
+    @Autowired D_PostRepository postRepository;
+    @Autowired D_CommentRepository commentRepository;
+    @Autowired StatementCounter statementCounter;
+
+    @ParameterizedTest(name = "comments={0}")
+    @ValueSource(ints = {1, 300})
+    void createComment_runsTwoStatements(int existingComments) {
+        Long postId = seedPostWithComments(existingComments).get(0);
+
+        Statistics stats = statementCounter.start();
+        commentService.createComment(postId, new CommentCreateRequestDto("새 댓글", "tester"));
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(stats.getCollectionFetchCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "comments={0}")
+    @ValueSource(ints = {1, 300})
+    void updateComment_runsTwoStatements(int existingComments) {
+        List<Long> ids = seedPostWithComments(existingComments);
+
+        Statistics stats = statementCounter.start();
+        commentService.updateComment(ids.get(0), ids.get(1), new CommentUpdateRequestDto("수정된 댓글"));
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(stats.getCollectionFetchCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "comments={0}")
+    @ValueSource(ints = {1, 300})
+    void deleteComment_runsThreeStatements(int existingComments) {
+        List<Long> ids = seedPostWithComments(existingComments);
+
+        Statistics stats = statementCounter.start();
+        commentService.deleteComment(ids.get(0), ids.get(1));
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(stats.getCollectionFetchCount()).isZero();
+    }
+
+    // 반환: [게시글 id, 첫 댓글 id]
+    private List<Long> seedPostWithComments(int count) {
+        D_Post post = postRepository.save(D_Post.create("제목", "본문", "author"));
+
+        List<D_Comment> comments = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            comments.add(D_Comment.create(post, "댓글 " + i, "commenter" + i));
+        }
+        commentRepository.saveAll(comments);
+        postRepository.adjustCommentCount(post.getId(), count);
+
+        statementCounter.flushAndClear();
+        return List.of(post.getId(), comments.get(0).getId());
+    }
+}
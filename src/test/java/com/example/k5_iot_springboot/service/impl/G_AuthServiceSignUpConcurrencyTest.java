@@ -0,0 +1,128 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.common.enums.RoleType;
+import com.example.k5_iot_springboot.common.errors.FieldConflictException;
+import com.example.k5_iot_springboot.common.errors.FieldErrorItem;
+import com.example.k5_iot_springboot.dto.G_Auth.request.SignUpRequest;
+import com.example.k5_iot_springboot.entity.G_Role;
+import com.example.k5_iot_springboot.provider.JwtProvider;
+import com.example.k5_iot_springboot.repository.G_RoleRepository;
+import com.example.k5_iot_springboot.repository.G_UserRepository;
+import com.example.k5_iot_springboot.repository.G_UserRoleRepository;
+import com.example.k5_iot_springboot.security.LoginAttemptThrottle;
+import com.example.k5_iot_springboot.security.TokenRevocationStore;
+import com.example.k5_iot_springboot.service.G_AuthService;
+import com.example.k5_iot_springboot.support.MySqlJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원가입 동시성 - 같은 loginId/email 로 동시에 가입하면 1건만 성공하고 나머지는 FieldConflictException(409)
+ * - 사전 중복 조회를 모두 통과한 요청도 uk_users_* 유니크 제약 위반으로 409 처리되는지 확인
+ * - 각 가입이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+ * */
+@MySqlJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({G_AuthServiceImpl.class, G_AuthServiceSignUpConcurrencyTest.PasswordEncoderConfig.class})
+class G_AuthServiceSignUpConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired G_AuthService authService;
+    @Autowired G_UserRepository userRepository;
+    @Autowired G_UserRoleRepository userRoleRepository;
+    @Autowired G_RoleRepository roleRepository;
+
+    // 회원가입에서 사용하지 않는 협력 객체
+    @MockitoBean AuthenticationManager authenticationManager;
+    @MockitoBean JwtProvider jwtProvider;
+    @MockitoBean TokenRevocationStore revocationStore;
+    @MockitoBean LoginAttemptThrottle loginAttemptThrottle;
+
+    @BeforeEach
+    void seedRole() {
+        if(!roleRepository.existsById(RoleType.USER)) roleRepository.save(new G_Role(RoleType.USER));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRoleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentSignUpsWithSameLoginIdAndEmail_exactlyOneSucceeds() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Throwable>> futures = new ArrayList<>();
+        for(int i = 0; i < THREADS; i++) {
+            // loginId/email 은 동일, nickname 만 다르게
+            SignUpRequest req = new SignUpRequest("racer01", "password1234", "racer@test.local", "racer-" + i, null);
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    authService.signUp(req);
+                    return null;
+                } catch (Throwable t) {
+                    return t;
+                }
+            }));
+        }
+
+        ready.await();
+        start.countDown(); // 모든 스레드를 동시에 출발
+
+        int succeeded = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for(Future<Throwable> future : futures) {
+            Throwable t = future.get(30, TimeUnit.SECONDS);
+            if(t == null) succeeded++;
+            else failures.add(t);
+        }
+        pool.shutdown();
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(failures).hasSize(THREADS - 1).allSatisfy(t -> {
+            assertThat(t).isInstanceOf(FieldConflictException.class);
+            assertThat(((FieldConflictException) t).getErrors())
+                    .extracting(FieldErrorItem::field)
+                    .isNotEmpty()
+                    .isSubsetOf("loginId", "email");
+        });
+        assertThat(userRepository.count()).isEqualTo(1);
+        assertThat(userRoleRepository.count()).isEqualTo(1);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class PasswordEncoderConfig {
+        // 테스트 속도를 위해 최소 cost
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
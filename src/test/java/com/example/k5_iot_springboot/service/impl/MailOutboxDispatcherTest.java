@@ -0,0 +1,167 @@
+package com.example.k5_iot_springboot.service.impl;
+
+import com.example.k5_iot_springboot.common.enums.MailStatus;
+import com.example.k5_iot_springboot.config.MailConfig;
+import com.example.k5_iot_springboot.entity.MailOutbox;
+import com.example.k5_iot_springboot.repository.MailOutboxRepository;
+import com.example.k5_iot_springboot.service.MailOutboxService;
+import com.example.k5_iot_springboot.support.MySqlJpaTest;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * MailOutboxDispatcher - 내장 SMTP 서버(GreenMail)로 실제 발송 경로 검증
+ * - 발송은 mailSendExecutor 스레드에서 실행되므로 테스트 트랜잭션 없이 각 단계를 커밋
+ * */
+@MySqlJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MailOutboxServiceImpl.class, MailOutboxDispatcher.class, MailOutboxDispatcherTest.MailTestConfig.class})
+@TestPropertySource(properties = {
+        "mail.outbox.batch-size=2",
+        "mail.outbox.max-attempts=2",
+        "mail.outbox.backoff-ms=60000"
+})
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired MailOutboxDispatcher dispatcher;
+    @Autowired MailOutboxService outboxService;
+    @Autowired MailOutboxRepository outboxRepository;
+    @Autowired MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void poll_sendsClaimedMailsInBatchesAndMarksThemSent() throws Exception {
+        outboxService.enqueue("a@test.local", "제목 A", "<p>A</p>");
+        outboxService.enqueue("b@test.local", "제목 B", "<p>B</p>");
+        outboxService.enqueue("c@test.local", "제목 C", "<p>C</p>");
+
+        dispatcher.poll(); // batch-size=2 >> 배치 2개 (2건 + 1건)
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 3)).isTrue();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(outboxRepository.findAll())
+                        .extracting(MailOutbox::getStatus)
+                        .containsOnly(MailStatus.SENT));
+
+        List<String> recipients = Arrays.stream(greenMail.getReceivedMessages())
+                .map(MailOutboxDispatcherTest::firstRecipient)
+                .toList();
+        assertThat(recipients).containsExactlyInAnyOrder("a@test.local", "b@test.local", "c@test.local");
+        assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void poll_whenSmtpUnavailable_schedulesRetryWithBackoff() {
+        greenMail.stop();
+        outboxService.enqueue("a@test.local", "제목", "<p>본문</p>");
+        long before = System.currentTimeMillis();
+
+        dispatcher.poll();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            MailOutbox mail = outboxRepository.findAll().get(0);
+            assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+            assertThat(mail.getAttempts()).isEqualTo(1);
+            assertThat(mail.getLastError()).isNotBlank();
+            assertThat(mail.getNextAttemptAt()).isGreaterThanOrEqualTo(before + 60000);
+        });
+        // 백오프 중에는 다시 선점되지 않음
+        assertThat(outboxService.claimDue(10)).isEmpty();
+    }
+
+    @Test
+    void releaseStale_countsInterruptedSendAsAttemptAndMovesToDeadAtLimit() {
+        outboxService.enqueue("a@test.local", "제목", "<p>본문</p>");
+
+        // 1회차: 선점 후 발송 전에 중단 -> 다시 대기 (attempts 1)
+        assertThat(outboxService.claimDue(10)).hasSize(1);
+        MailOutboxService.StaleRelease first = outboxService.releaseStale(System.currentTimeMillis() + 1);
+        assertThat(first).isEqualTo(new MailOutboxService.StaleRelease(1, 0));
+
+        MailOutbox mail = outboxRepository.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+
+        // 2회차: 한 번 더 중단 -> max-attempts(2) 도달로 DEAD
+        assertThat(outboxService.claimDue(10)).hasSize(1);
+        MailOutboxService.StaleRelease second = outboxService.releaseStale(System.currentTimeMillis() + 1);
+        assertThat(second).isEqualTo(new MailOutboxService.StaleRelease(0, 1));
+
+        mail = outboxRepository.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.DEAD);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        assertThat(outboxService.claimDue(10)).isEmpty();
+    }
+
+    private static String firstRecipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // MailConfig 대신 내장 SMTP 서버(인증/STARTTLS 없음)로 연결
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MailTestConfig {
+
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("127.0.0.1");
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+            Properties props = mailSender.getJavaMailProperties();
+            props.put("mail.smtp.connectiontimeout", "2000");
+            props.put("mail.smtp.timeout", "2000");
+            return mailSender;
+        }
+
+        @Bean(name = MailConfig.MAIL_SEND_EXECUTOR)
+        ThreadPoolTaskExecutor mailSendExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(2);
+            executor.setQueueCapacity(2);
+            executor.setThreadNamePrefix("mail-send-test-");
+            executor.initialize();
+            return executor;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
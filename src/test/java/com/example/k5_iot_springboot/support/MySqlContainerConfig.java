@@ -0,0 +1,22 @@
+package com.example.k5_iot_springboot.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/*
+    테스트용 MySQL 컨테이너
+    - @ServiceConnection: 컨테이너의 접속 정보로 spring.datasource.* 를 대체
+    - 컨텍스트 캐시로 같은 설정의 테스트 클래스끼리 컨테이너 1개를 공유
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    public MySQLContainer<?> mySqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}
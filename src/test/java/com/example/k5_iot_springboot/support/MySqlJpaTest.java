@@ -0,0 +1,31 @@
+package com.example.k5_iot_springboot.support;
+
+import com.example.k5_iot_springboot.config.JpaAuditingConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * === JPA 슬라이스 테스트 (MySQL) ===
+ * - 리포지토리 + @Import 한 서비스만 로드 (@DataJpaTest)
+ * - 내장 DB 대신 Testcontainers MySQL 사용 (네이티브 쿼리/잠금 동작을 운영과 동일하게 검증)
+ * - Docker 가 없는 환경에서는 테스트를 건너뜀
+ * - test 프로필: application-test.properties (스키마 자동 생성 + Hibernate 통계)
+ * - SQL 실행 횟수 측정: StatementCounter 주입
+ * */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@Import({MySqlContainerConfig.class, JpaAuditingConfig.class, StatementCounter.class})
+public @interface MySqlJpaTest {
+}
@@ -0,0 +1,35 @@
+package com.example.k5_iot_springboot.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * === SQL 실행 횟수 측정 (@MySqlJpaTest 에 포함) ===
+ * - seed 후 flushAndClear(): 쌓인 INSERT 를 반영하고 1차 캐시를 비움 >> 측정 대상이 영속성 컨텍스트가 아닌 DB 를 조회
+ * - start(): Hibernate 통계 초기화 후 반환 - 이후 getPrepareStatementCount() 등으로 확인
+ *      (test 프로필의 hibernate.generate_statistics=true 필요)
+ * */
+@TestComponent
+public class StatementCounter {
+
+    private final TestEntityManager em;
+    private final Statistics statistics;
+
+    public StatementCounter(TestEntityManager em, EntityManagerFactory emf) {
+        this.em = em;
+        this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    public Statistics start() {
+        statistics.clear();
+        return statistics;
+    }
+}